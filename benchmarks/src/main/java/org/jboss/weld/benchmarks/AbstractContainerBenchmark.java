@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A base class for benchmarks which run against a Weld SE container. The container is started before the first iteration and shut
+ * down after the last one. The subclasses are expected to be thread-scoped states so that each benchmark thread gets its own container
+ * and thread-bound contexts may be activated in {@link #setUp()}.
+ */
+public abstract class AbstractContainerBenchmark {
+
+    private static final AtomicInteger CONTAINER_IDS = new AtomicInteger();
+
+    private Weld weld;
+    private WeldContainer container;
+
+    @Setup
+    public final void startContainer() throws Exception {
+        weld = new Weld(getClass().getSimpleName() + '-' + CONTAINER_IDS.incrementAndGet());
+        container = weld.initialize();
+        setUp();
+    }
+
+    @TearDown
+    public final void stopContainer() throws Exception {
+        try {
+            tearDown();
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    /**
+     * Called once the container is started.
+     */
+    protected void setUp() throws Exception {
+    }
+
+    /**
+     * Called before the container is shut down.
+     */
+    protected void tearDown() throws Exception {
+    }
+
+    protected WeldContainer getContainer() {
+        return container;
+    }
+}
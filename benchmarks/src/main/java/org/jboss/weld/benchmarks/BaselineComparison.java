@@ -0,0 +1,312 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Compares the results of a benchmark run with a reference result. Both files are expected to be in the JSON format produced by JMH
+ * ({@code -rf json}). For every benchmark the relative change of the primary score is printed. A benchmark is reported as a regression if
+ * it is slower than the reference by more than the given threshold (in percent). For the throughput mode a higher score is better, for
+ * the other modes a lower score is better. The process exits with status 1 if there is at least one regression.
+ *
+ * <p>
+ * The scores are only comparable if both runs were executed on the same machine with the same JDK. The JDK of both runs is printed and
+ * a difference is reported as a warning.
+ * </p>
+ *
+ * <pre>
+ * mvn exec:exec@compare -f benchmarks/pom.xml -Dbenchmark.threshold=10
+ * </pre>
+ */
+public class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    private static final String MODE_THROUGHPUT = "thrpt";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: " + BaselineComparison.class.getName() + " <reference json> <results json> [threshold in percent]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, Result> reference = read(args[0]);
+        Map<String, Result> results = read(args[1]);
+
+        String referenceJdk = getJdk(reference);
+        String resultsJdk = getJdk(results);
+        System.out.println("Reference JDK: " + referenceJdk);
+        System.out.println("Results JDK:   " + resultsJdk);
+        if (referenceJdk != null && !referenceJdk.equals(resultsJdk)) {
+            System.out.println("WARNING: the results were measured with a different JDK, the scores are not comparable");
+        }
+
+        int regressions = 0;
+        for (Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            Result base = reference.get(entry.getKey());
+            if (base == null) {
+                System.out.println(String.format("%-100s %12.3f %-8s (no reference)", entry.getKey(), result.score, result.unit));
+                continue;
+            }
+            if (!base.unit.equals(result.unit)) {
+                System.out.println(String.format("%-100s unit changed from %s to %s", entry.getKey(), base.unit, result.unit));
+                continue;
+            }
+            // positive change means the benchmark got slower
+            double change = (result.score - base.score) / base.score * 100;
+            if (MODE_THROUGHPUT.equals(result.mode)) {
+                change = -change;
+            }
+            boolean regression = change > threshold;
+            if (regression) {
+                regressions++;
+            }
+            System.out.println(String.format("%-100s %12.3f %-8s %+8.2f%%%s", entry.getKey(), result.score, result.unit, change,
+                    regression ? " REGRESSION" : ""));
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) slower than the reference by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    private static String getJdk(Map<String, Result> results) {
+        return results.isEmpty() ? null : results.values().iterator().next().jdk;
+    }
+
+    private static Map<String, Result> read(String file) throws IOException {
+        Object json = new JsonParser(new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8)).parse();
+        if (!(json instanceof List<?>)) {
+            throw new IOException(file + " is not a JMH result file");
+        }
+        Map<String, Result> results = new LinkedHashMap<String, Result>();
+        for (Object element : (List<?>) json) {
+            Map<?, ?> run = (Map<?, ?>) element;
+            Map<?, ?> metric = (Map<?, ?>) run.get("primaryMetric");
+            // the key consists of the benchmark name, the mode and the values of all the parameters
+            StringBuilder key = new StringBuilder((String) run.get("benchmark")).append(' ').append(run.get("mode"));
+            if (run.get("params") instanceof Map<?, ?>) {
+                for (Entry<?, ?> param : new TreeMap<Object, Object>((Map<?, ?>) run.get("params")).entrySet()) {
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue());
+                }
+            }
+            results.put(key.toString(), new Result((String) run.get("mode"), ((Number) metric.get("score")).doubleValue(),
+                    (String) metric.get("scoreUnit"), run.get("vmName") + " " + run.get("jdkVersion")));
+        }
+        return results;
+    }
+
+    private static class Result {
+
+        private final String mode;
+        private final double score;
+        private final String unit;
+        private final String jdk;
+
+        private Result(String mode, double score, String unit, String jdk) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+            this.jdk = jdk;
+        }
+    }
+
+    /**
+     * A minimal parser of the JSON written by JMH. Objects are returned as maps, arrays as lists and numbers as doubles. JMH writes
+     * {@code "NaN"} for undefined scores, which is returned as a string.
+     */
+    private static class JsonParser {
+
+        private final String json;
+        private int position;
+
+        private JsonParser(String json) {
+            this.json = json;
+        }
+
+        private Object parse() throws IOException {
+            Object value = parseValue();
+            skipWhitespace();
+            if (position < json.length()) {
+                throw error("Unexpected content");
+            }
+            return value;
+        }
+
+        private Object parseValue() throws IOException {
+            skipWhitespace();
+            if (position >= json.length()) {
+                throw error("Unexpected end");
+            }
+            char c = json.charAt(position);
+            switch (c) {
+                case '{':
+                    return parseObject();
+                case '[':
+                    return parseArray();
+                case '"':
+                    return parseString();
+                case 't':
+                    return parseLiteral("true", Boolean.TRUE);
+                case 'f':
+                    return parseLiteral("false", Boolean.FALSE);
+                case 'n':
+                    return parseLiteral("null", null);
+                default:
+                    return parseNumber();
+            }
+        }
+
+        private Map<String, Object> parseObject() throws IOException {
+            Map<String, Object> object = new LinkedHashMap<String, Object>();
+            position++;
+            skipWhitespace();
+            if (consume('}')) {
+                return object;
+            }
+            do {
+                skipWhitespace();
+                String name = parseString();
+                skipWhitespace();
+                expect(':');
+                object.put(name, parseValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        private List<Object> parseArray() throws IOException {
+            List<Object> array = new ArrayList<Object>();
+            position++;
+            skipWhitespace();
+            if (consume(']')) {
+                return array;
+            }
+            do {
+                array.add(parseValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+            return array;
+        }
+
+        private String parseString() throws IOException {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < json.length()) {
+                char c = json.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\') {
+                    if (position >= json.length()) {
+                        break;
+                    }
+                    char escaped = json.charAt(position++);
+                    switch (escaped) {
+                        case 'b':
+                            value.append('\b');
+                            break;
+                        case 'f':
+                            value.append('\f');
+                            break;
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 'r':
+                            value.append('\r');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'u':
+                            if (position + 4 > json.length()) {
+                                throw error("Invalid escape sequence");
+                            }
+                            value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                            position += 4;
+                            break;
+                        default:
+                            value.append(escaped);
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Object parseLiteral(String literal, Object value) throws IOException {
+            if (!json.startsWith(literal, position)) {
+                throw error("Unexpected character");
+            }
+            position += literal.length();
+            return value;
+        }
+
+        private Double parseNumber() throws IOException {
+            int start = position;
+            while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            try {
+                return Double.valueOf(json.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char c) {
+            if (position < json.length() && json.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) throws IOException {
+            if (!consume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(message + " at position " + position);
+        }
+    }
+}
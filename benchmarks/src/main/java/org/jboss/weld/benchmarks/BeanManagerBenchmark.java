@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedBean;
+import org.jboss.weld.benchmarks.beans.DependentBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BeanManager#getReference(Bean, java.lang.reflect.Type, javax.enterprise.context.spi.CreationalContext)} for a
+ * dependent bean, for which a new instance is created, and for a normal-scoped bean, for which the client proxy is returned.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BeanManagerBenchmark extends AbstractContainerBenchmark {
+
+    private BeanManager manager;
+    private Bean<?> dependentBean;
+    private Bean<?> applicationScopedBean;
+
+    @Override
+    protected void setUp() {
+        manager = getContainer().getBeanManager();
+        dependentBean = manager.resolve(manager.getBeans(DependentBean.class));
+        applicationScopedBean = manager.resolve(manager.getBeans(ApplicationScopedBean.class));
+    }
+
+    @Benchmark
+    public Object getReferenceDependent() {
+        return manager.getReference(dependentBean, DependentBean.class, manager.createCreationalContext(dependentBean));
+    }
+
+    @Benchmark
+    public Object getReferenceApplicationScoped() {
+        return manager.getReference(applicationScopedBean, ApplicationScopedBean.class, manager.createCreationalContext(applicationScopedBean));
+    }
+}
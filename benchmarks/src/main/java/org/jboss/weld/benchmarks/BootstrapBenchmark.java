@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.benchmarks.beans.SyntheticBeansExtension;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the full bootstrap of a Weld SE container (discovery, deployment, validation) for synthetic deployments with the given
+ * number of additional beans. The container shutdown is not included in the measurement.
+ * @see SyntheticBeansExtension
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BootstrapBenchmark {
+
+    private static final AtomicInteger CONTAINER_IDS = new AtomicInteger();
+
+    @Param({ "1000", "10000" })
+    private int beanCount;
+
+    private Weld weld;
+
+    @Benchmark
+    public WeldContainer boot() {
+        weld = new Weld(getClass().getSimpleName() + '-' + CONTAINER_IDS.incrementAndGet());
+        weld.addExtension(new SyntheticBeansExtension(beanCount));
+        return weld.initialize();
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdown() {
+        if (weld != null) {
+            weld.shutdown();
+            weld = null;
+        }
+    }
+}
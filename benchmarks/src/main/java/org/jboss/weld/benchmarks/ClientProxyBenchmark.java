@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedBean;
+import org.jboss.weld.benchmarks.beans.RequestScopedBean;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a method invocation on a client proxy. The invocation is dispatched through
+ * {@link org.jboss.weld.bean.proxy.ContextBeanInstance#getInstance()} which looks up the contextual instance in the context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClientProxyBenchmark extends AbstractContainerBenchmark {
+
+    private RequestContext requestContext;
+    private ApplicationScopedBean applicationScopedBean;
+    private RequestScopedBean requestScopedBean;
+
+    @Override
+    protected void setUp() {
+        applicationScopedBean = getContainer().instance().select(ApplicationScopedBean.class).get();
+        requestScopedBean = getContainer().instance().select(RequestScopedBean.class).get();
+        // the request context is bound to the benchmark thread for the whole trial
+        requestContext = getContainer().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+        requestContext.activate();
+    }
+
+    @Override
+    protected void tearDown() {
+        try {
+            requestContext.invalidate();
+        } finally {
+            requestContext.deactivate();
+        }
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScopedBean.ping();
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return requestScopedBean.ping();
+    }
+}
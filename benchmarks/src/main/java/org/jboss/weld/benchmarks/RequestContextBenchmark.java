@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.benchmarks.beans.RequestScopedBean;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the activation and deactivation of the request context, both for an empty request and for a request in which a
+ * request-scoped bean is created and destroyed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequestContextBenchmark extends AbstractContainerBenchmark {
+
+    private RequestContext requestContext;
+    private RequestScopedBean requestScopedBean;
+
+    @Override
+    protected void setUp() {
+        requestContext = getContainer().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+        requestScopedBean = getContainer().instance().select(RequestScopedBean.class).get();
+    }
+
+    @Benchmark
+    public void emptyRequest() {
+        requestContext.activate();
+        try {
+            requestContext.invalidate();
+        } finally {
+            requestContext.deactivate();
+        }
+    }
+
+    @Benchmark
+    public int request() {
+        requestContext.activate();
+        try {
+            return requestScopedBean.ping();
+        } finally {
+            try {
+                requestContext.invalidate();
+            } finally {
+                requestContext.deactivate();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import javax.inject.Inject;
+
+/**
+ * The type of the beans of the synthetic deployments. The type has no bean defining annotation and thus is not discovered, it is
+ * added by {@link SyntheticBeansExtension} under a different id for each bean.
+ */
+public class SyntheticBean {
+
+    @Inject
+    DependentBean dependency;
+
+    @Inject
+    ApplicationScopedBean applicationScopedDependency;
+}
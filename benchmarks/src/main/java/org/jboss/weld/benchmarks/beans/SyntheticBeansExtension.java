@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+/**
+ * Adds the given number of beans to the deployment. All the beans share the {@link SyntheticBean} type and each of them has two
+ * injection points which need to be validated.
+ */
+public class SyntheticBeansExtension implements Extension {
+
+    private final int beanCount;
+
+    public SyntheticBeansExtension(int beanCount) {
+        this.beanCount = beanCount;
+    }
+
+    void addBeans(@Observes BeforeBeanDiscovery event, BeanManager manager) {
+        for (int i = 0; i < beanCount; i++) {
+            AnnotatedType<SyntheticBean> type = manager.createAnnotatedType(SyntheticBean.class);
+            event.addAnnotatedType(type, SyntheticBean.class.getName() + i);
+        }
+    }
+}
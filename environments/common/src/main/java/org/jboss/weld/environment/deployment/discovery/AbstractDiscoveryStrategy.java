@@ -16,14 +16,23 @@
  */
 package org.jboss.weld.environment.deployment.discovery;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
+import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 import org.jboss.weld.bootstrap.api.Bootstrap;
@@ -33,6 +42,7 @@ import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.security.GetSystemPropertyAction;
 
 /**
  *
@@ -42,6 +52,12 @@ import org.jboss.weld.resources.spi.ResourceLoader;
  */
 public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
+    /**
+     * If set to <code>true</code>, the bean archives are handled concurrently provided that all the registered
+     * {@link BeanArchiveHandler}s are thread-safe.
+     */
+    public static final String CONCURRENT_SCANNING_SYSTEM_PROPERTY = "org.jboss.weld.discovery.concurrentScanning";
+
     private static final Logger log = Logger.getLogger(AbstractDiscoveryStrategy.class);
 
     protected final ResourceLoader resourceLoader;
@@ -79,21 +95,33 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
             scanner = new DefaultBeanArchiveScanner(resourceLoader, bootstrap);
         }
 
-        final Collection<BeanArchiveBuilder> beanArchiveBuilders = new ArrayList<BeanArchiveBuilder>();
-        for (Entry<BeansXml, String> entry : scanner.scan().entrySet()) {
-            String ref = entry.getValue();
-            BeanArchiveBuilder builder = null;
-            for (BeanArchiveHandler handler : handlers) {
-                builder = handler.handle(ref);
-                if (builder != null) {
-                    builder.setId(ref);
-                    builder.setBeansXml(entry.getKey());
-                    beanArchiveBuilders.add(builder);
-                    break;
+        final Map<BeansXml, String> beanArchives = scanner.scan();
+
+        final File snapshotFile = isSnapshotSupported() ? DiscoverySnapshot.getSnapshotFile() : null;
+        if (snapshotFile != null) {
+            DiscoverySnapshot snapshot = DiscoverySnapshot.read(snapshotFile, getSnapshotKey());
+            if (snapshot != null) {
+                Collection<BeanArchiveBuilder> restoredBuilders = snapshot.restore(beanArchives);
+                if (restoredBuilders != null) {
+                    log.debugv("Bean archives restored from the discovery snapshot {0}", snapshotFile);
+                    beforeDiscovery(restoredBuilders);
+                    // the classes are already filtered according to the bean discovery mode
+                    Set<WeldBeanDeploymentArchive> archives = new HashSet<WeldBeanDeploymentArchive>();
+                    for (BeanArchiveBuilder builder : restoredBuilders) {
+                        addToArchives(archives, builder.build());
+                    }
+                    afterDiscovery(archives);
+                    return archives;
                 }
             }
-            if (builder == null) {
-                log.warnv("The bean archive reference {0} cannot be handled by any BeanArchiveHandler: {1}", ref, handlers);
+        }
+
+        final Collection<BeanArchiveBuilder> beanArchiveBuilders = new ArrayList<BeanArchiveBuilder>();
+        if (beanArchives.size() > 1 && isConcurrentScanningEnabled()) {
+            handleConcurrently(beanArchives, beanArchiveBuilders);
+        } else {
+            for (Entry<BeansXml, String> entry : beanArchives.entrySet()) {
+                addToBuilders(beanArchiveBuilders, handle(entry.getKey(), entry.getValue()));
             }
         }
 
@@ -116,10 +144,100 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
                     CommonLogger.LOG.undefinedBeanDiscoveryValue(beansXml.getBeanDiscoveryMode());
             }
         }
+        if (snapshotFile != null) {
+            DiscoverySnapshot.write(snapshotFile, getSnapshotKey(), beanArchives, archives);
+        }
         afterDiscovery(archives);
         return archives;
     }
 
+    private BeanArchiveBuilder handle(BeansXml beansXml, String ref) {
+        long start = System.nanoTime();
+        for (BeanArchiveHandler handler : handlers) {
+            BeanArchiveBuilder builder = handler.handle(ref);
+            if (builder != null) {
+                builder.setId(ref);
+                builder.setBeansXml(beansXml);
+                log.debugv("Bean archive {0} handled by {1} in {2} ms", ref, handler, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return builder;
+            }
+        }
+        log.warnv("The bean archive reference {0} cannot be handled by any BeanArchiveHandler: {1}", ref, handlers);
+        return null;
+    }
+
+    private void addToBuilders(Collection<BeanArchiveBuilder> builders, BeanArchiveBuilder builder) {
+        if (builder != null) {
+            builders.add(builder);
+        }
+    }
+
+    /**
+     * Handles the bean archives using a thread pool sized by the number of available processors. The builders are added in the same order
+     * as if the archives were handled sequentially.
+     */
+    private void handleConcurrently(Map<BeansXml, String> beanArchives, Collection<BeanArchiveBuilder> builders) {
+        int threads = Math.min(beanArchives.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<BeanArchiveBuilder>> futures = new ArrayList<Future<BeanArchiveBuilder>>(beanArchives.size());
+            for (final Entry<BeansXml, String> entry : beanArchives.entrySet()) {
+                futures.add(executor.submit(new Callable<BeanArchiveBuilder>() {
+                    @Override
+                    public BeanArchiveBuilder call() throws Exception {
+                        return handle(entry.getKey(), entry.getValue());
+                    }
+                }));
+            }
+            for (Future<BeanArchiveBuilder> future : futures) {
+                addToBuilders(builders, future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean isConcurrentScanningEnabled() {
+        if (!Boolean.valueOf(AccessController.doPrivileged(new GetSystemPropertyAction(CONCURRENT_SCANNING_SYSTEM_PROPERTY)))) {
+            return false;
+        }
+        for (BeanArchiveHandler handler : handlers) {
+            if (!handler.isThreadSafe()) {
+                log.debugv("Bean archives are handled sequentially as {0} is not thread-safe", handler);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * If the result of the discovery is restored from a {@link DiscoverySnapshot}, {@link #beforeDiscovery(Collection)} and
+     * {@link #afterDiscovery(Set)} are called as usual but the process methods are not - the snapshot holds their result. A strategy
+     * which needs to process the bean archives during each discovery (e.g. to provide {@link ClassFileServices}) must not restore the bean
+     * deployment archives from a snapshot.
+     *
+     * @return true if the result of the discovery may be restored from a snapshot
+     */
+    protected boolean isSnapshotSupported() {
+        return true;
+    }
+
+    private String getSnapshotKey() {
+        return DiscoverySnapshot.createKey(getClass(), initialBeanDefiningAnnotations);
+    }
+
     @Override
     public ClassFileServices getClassFileServices() {
         // By default no bytecode scanning facility available
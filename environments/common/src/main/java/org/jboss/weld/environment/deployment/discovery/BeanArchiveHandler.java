@@ -31,4 +31,14 @@ public interface BeanArchiveHandler {
      */
     BeanArchiveBuilder handle(String beanArchiveReference);
 
+    /**
+     * Bean archives are only handled concurrently if all the registered handlers are thread-safe.
+     *
+     * @return <code>true</code> if the handler may be invoked by multiple threads at the same time
+     * @see AbstractDiscoveryStrategy#CONCURRENT_SCANNING_SYSTEM_PROPERTY
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -0,0 +1,296 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.security.GetSystemPropertyAction;
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * A snapshot of the result of bean archive discovery which is stored in a local file and reused on the next start. Each bean archive is
+ * stored together with a checksum computed from the sizes and modification times of the files the archive consists of. The snapshot is
+ * only used if it was created by the same version of Weld and the same discovery configuration, the same set of bean archives is found,
+ * the checksums of all of them match and the bean discovery modes did not change. Otherwise the full discovery is performed and the
+ * snapshot is replaced.
+ *
+ * <p>
+ * The snapshot has the following limits:
+ * </p>
+ * <ul>
+ * <li>The content of the files is not read. A change which preserves both the size and the modification time of a file is not
+ * detected.</li>
+ * <li>Only the files of the bean archives are checked. The classes of an archive with bean-discovery-mode="annotated" also depend on
+ * annotations declared elsewhere, e.g. a stereotype declared in a library which is not a bean archive. Such a change is not
+ * detected.</li>
+ * <li>An archive which is not a local file or directory cannot be checked and no snapshot is stored for the deployment.</li>
+ * </ul>
+ * @see #SNAPSHOT_SYSTEM_PROPERTY
+ */
+final class DiscoverySnapshot {
+
+    /**
+     * The path of the snapshot file. The snapshot is not used if the property is not set.
+     */
+    static final String SNAPSHOT_SYSTEM_PROPERTY = "org.jboss.weld.discovery.snapshot";
+
+    private static final Logger log = Logger.getLogger(DiscoverySnapshot.class);
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String WELD_VERSION = Formats.version(WeldBootstrap.class.getPackage());
+
+    private final Map<String, ArchiveSnapshot> archives;
+
+    private DiscoverySnapshot(Map<String, ArchiveSnapshot> archives) {
+        this.archives = archives;
+    }
+
+    /**
+     * @return the snapshot file or null if the snapshot is disabled
+     */
+    static File getSnapshotFile() {
+        String path = AccessController.doPrivileged(new GetSystemPropertyAction(SNAPSHOT_SYSTEM_PROPERTY));
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        return new File(path);
+    }
+
+    /**
+     * The key identifies everything the discovery result depends on apart from the bean archives themselves - the version of Weld, the
+     * discovery strategy and the bean defining annotations.
+     *
+     * @param strategyClass the discovery strategy
+     * @param beanDefiningAnnotations the initial bean defining annotations
+     * @return the key of the snapshot
+     */
+    static String createKey(Class<?> strategyClass, Set<Class<? extends Annotation>> beanDefiningAnnotations) {
+        // the classes of archives with bean-discovery-mode="annotated" depend on the bean defining annotations
+        List<String> annotations = new ArrayList<String>(beanDefiningAnnotations.size());
+        for (Class<? extends Annotation> annotation : beanDefiningAnnotations) {
+            annotations.add(annotation.getName());
+        }
+        Collections.sort(annotations);
+        return WELD_VERSION + '-' + strategyClass.getName() + annotations;
+    }
+
+    /**
+     * @param file the snapshot file
+     * @param key identifies the discovery configuration - a snapshot created with a different key is ignored
+     * @return the snapshot or null if the file does not exist or the snapshot cannot be used
+     */
+    static DiscoverySnapshot read(File file, String key) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+                log.debugv("Discovery snapshot {0} was created by a different configuration", file);
+                return null;
+            }
+            int archiveCount = in.readInt();
+            Map<String, ArchiveSnapshot> archives = new HashMap<String, ArchiveSnapshot>();
+            for (int i = 0; i < archiveCount; i++) {
+                String ref = in.readUTF();
+                String checksum = in.readUTF();
+                BeanDiscoveryMode mode = BeanDiscoveryMode.valueOf(in.readUTF());
+                int classCount = in.readInt();
+                List<String> classes = new ArrayList<String>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classes.add(in.readUTF());
+                }
+                archives.put(ref, new ArchiveSnapshot(checksum, mode, classes));
+            }
+            return new DiscoverySnapshot(archives);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warnv(e, "Unable to read the discovery snapshot {0}", file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the result of the discovery. The snapshot is written to a temporary file first which then replaces the snapshot file.
+     *
+     * @param file the snapshot file
+     * @param key identifies the discovery configuration
+     * @param beanArchives the bean archives found by the scanner
+     * @param archives the discovered bean deployment archives
+     */
+    static void write(File file, String key, Map<BeansXml, String> beanArchives, Set<WeldBeanDeploymentArchive> archives) {
+        Map<String, Collection<String>> classesByRef = new HashMap<String, Collection<String>>();
+        for (WeldBeanDeploymentArchive archive : archives) {
+            classesByRef.put(archive.getId(), archive.getBeanClasses());
+        }
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create directory " + directory);
+            }
+            File tmp = File.createTempFile(file.getName(), null, directory);
+            try {
+                try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(key);
+                    out.writeInt(beanArchives.size());
+                    for (Entry<BeansXml, String> entry : beanArchives.entrySet()) {
+                        String ref = entry.getValue();
+                        String checksum = checksum(ref);
+                        if (checksum == null) {
+                            // the archive is not a local file - the snapshot could never be used
+                            log.debugv("Unable to compute the checksum of {0}, the discovery snapshot is not stored", ref);
+                            return;
+                        }
+                        Collection<String> classes = classesByRef.get(ref);
+                        if (classes == null) {
+                            classes = Collections.emptySet();
+                        }
+                        out.writeUTF(ref);
+                        out.writeUTF(checksum);
+                        out.writeUTF(entry.getKey().getBeanDiscoveryMode().name());
+                        out.writeInt(classes.size());
+                        for (String className : classes) {
+                            out.writeUTF(className);
+                        }
+                    }
+                }
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        } catch (IOException e) {
+            log.warnv(e, "Unable to store the discovery snapshot {0}", file);
+        }
+    }
+
+    /**
+     * Restores the builders of the bean deployment archives for the bean archives found by the scanner. The classes of each builder are
+     * already filtered according to the bean discovery mode of the archive. Archives with bean-discovery-mode="none" are left out.
+     *
+     * @param beanArchives the bean archives found by the scanner
+     * @return the bean archive builders or null if the snapshot does not match the bean archives
+     */
+    Collection<BeanArchiveBuilder> restore(Map<BeansXml, String> beanArchives) {
+        if (beanArchives.size() != archives.size()) {
+            return null;
+        }
+        List<BeanArchiveBuilder> result = new ArrayList<BeanArchiveBuilder>();
+        for (Entry<BeansXml, String> entry : beanArchives.entrySet()) {
+            String ref = entry.getValue();
+            ArchiveSnapshot snapshot = archives.get(ref);
+            if (snapshot == null || !snapshot.mode.equals(entry.getKey().getBeanDiscoveryMode()) || !snapshot.checksum.equals(checksum(ref))) {
+                log.debugv("Bean archive {0} changed since the discovery snapshot was created", ref);
+                return null;
+            }
+            if (!BeanDiscoveryMode.NONE.equals(snapshot.mode)) {
+                BeanArchiveBuilder builder = new BeanArchiveBuilder().setId(ref).setBeansXml(entry.getKey());
+                for (String className : snapshot.classes) {
+                    builder.addClass(className);
+                }
+                result.add(builder);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The checksum covers the names, sizes and modification times of all the files of the bean archive. The content of the files is not
+     * read.
+     *
+     * @param ref the bean archive reference
+     * @return the checksum or null if the reference is not a local file or directory
+     */
+    static String checksum(String ref) {
+        File file = new File(ref);
+        if (!file.exists()) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            // every implementation of the Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+        update(digest, file, file.getName());
+        StringBuilder checksum = new StringBuilder();
+        for (byte b : digest.digest()) {
+            checksum.append(String.format("%02x", b));
+        }
+        return checksum.toString();
+    }
+
+    private static void update(MessageDigest digest, File file, String path) {
+        digest.update(path.getBytes(StandardCharsets.UTF_8));
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                // listFiles() does not guarantee any particular order
+                Arrays.sort(children);
+                for (File child : children) {
+                    update(digest, child, path + '/' + child.getName());
+                }
+            }
+        } else {
+            digest.update(Long.toString(file.length()).getBytes(StandardCharsets.UTF_8));
+            digest.update(Long.toString(file.lastModified()).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class ArchiveSnapshot {
+
+        private final String checksum;
+        private final BeanDiscoveryMode mode;
+        private final List<String> classes;
+
+        private ArchiveSnapshot(String checksum, BeanDiscoveryMode mode, List<String> classes) {
+            this.checksum = checksum;
+            this.mode = mode;
+            this.classes = classes;
+        }
+    }
+}
@@ -22,6 +22,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
@@ -68,50 +75,56 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         return builder;
     }
 
+    /**
+     * The handler does not hold any state between invocations of {@link #handle(String)}. A subclass is not considered thread-safe unless
+     * it overrides this method, since it may add state to the protected callback methods.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == FileSystemBeanArchiveHandler.class;
+    }
+
     protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
 
         log.debugv("Handle archive file: {0}", file);
 
-        try {
-            ZipFile zip = new ZipFile(file);
+        try (ZipFile zip = new ZipFile(file)) {
             Enumeration<? extends ZipEntry> entries = zip.entries();
             ZipFileEntry entry = new ZipFileEntry(PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + "!/");
             while (entries.hasMoreElements()) {
                 add(entry.setName(entries.nextElement().getName()), builder);
             }
-            zip.close();
         } catch (ZipException e) {
             throw CommonLogger.LOG.cannotHandleFile(file, e);
         }
     }
 
-    protected void handleDirectory(DirectoryEntry entry, BeanArchiveBuilder builder) throws IOException {
+    protected void handleDirectory(final DirectoryEntry entry, final BeanArchiveBuilder builder) throws IOException {
 
         log.debugv("Handle directory: {0}", entry.getFile());
 
-        File[] files = entry.getFile().listFiles();
+        final Path root = entry.getFile().toPath();
+        final String rootPath = entry.getName();
 
-        if(files == null) {
-            log.warnv("Unable to list directory files: {0}", entry.getFile());
-        }
-        String parentPath = entry.getName();
+        // symbolic links were followed by the original File.listFiles() based implementation
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
 
-        for (File child : files) {
-
-            if(entry.getName() != null ) {
-                entry.setPath(entry.getName() + "/" + child.getName());
-            } else {
-                entry.setPath(child.getName());
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String path = root.relativize(file).toString().replace(File.separatorChar, '/');
+                entry.setPath(rootPath != null ? rootPath + "/" + path : path);
+                entry.setFile(file.toFile());
+                add(entry, builder);
+                return FileVisitResult.CONTINUE;
             }
-            entry.setFile(child);
 
-            if (child.isDirectory()) {
-                handleDirectory(entry, builder);
-            } else {
-                add(entry, builder);
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                log.warnv("Unable to list directory files: {0}", file);
+                return FileVisitResult.CONTINUE;
             }
-            entry.setPath(parentPath);
-        }
+        });
+        entry.setPath(rootPath);
     }
 
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
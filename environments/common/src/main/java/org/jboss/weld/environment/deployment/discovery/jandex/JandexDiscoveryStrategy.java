@@ -68,6 +68,12 @@ public class JandexDiscoveryStrategy extends AbstractDiscoveryStrategy {
         return classFileServices;
     }
 
+    @Override
+    protected boolean isSnapshotSupported() {
+        // the index is needed to provide the ClassFileServices
+        return false;
+    }
+
     @Override
     protected void beforeDiscovery(Collection<BeanArchiveBuilder> builders) {
         List<IndexView> indexes = new ArrayList<IndexView>();
@@ -44,6 +44,12 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         return builder;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        // the indexer is shared by all the invocations of handle()
+        return false;
+    }
+
     @Override
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
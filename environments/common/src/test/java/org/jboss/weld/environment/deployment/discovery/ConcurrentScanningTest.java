@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.metadata.BeansXmlImpl;
+import org.jboss.weld.metadata.ScanningImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link AbstractDiscoveryStrategy#CONCURRENT_SCANNING_SYSTEM_PROPERTY}.
+ */
+public class ConcurrentScanningTest {
+
+    private static final int ARCHIVES = 8;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Map<BeansXml, String> beanArchives = new LinkedHashMap<BeansXml, String>();
+
+    @Before
+    public void init() throws IOException {
+        for (int i = 0; i < ARCHIVES; i++) {
+            File root = folder.newFolder("archive" + i);
+            FileSystemBeanArchiveHandlerTest.createFile(root, "org/foo" + i + "/Foo.class");
+            FileSystemBeanArchiveHandlerTest.createFile(root, "org/foo" + i + "/bar/Bar.class");
+            beanArchives.put(newBeansXml(), root.getPath());
+        }
+        System.setProperty(AbstractDiscoveryStrategy.CONCURRENT_SCANNING_SYSTEM_PROPERTY, "true");
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(AbstractDiscoveryStrategy.CONCURRENT_SCANNING_SYSTEM_PROPERTY);
+    }
+
+    @Test
+    public void testConcurrentResultMatchesSequential() {
+        Map<String, Set<String>> concurrent = toMap(new TestDiscoveryStrategy(new FileSystemBeanArchiveHandler()).performDiscovery());
+        System.clearProperty(AbstractDiscoveryStrategy.CONCURRENT_SCANNING_SYSTEM_PROPERTY);
+        Map<String, Set<String>> sequential = toMap(new TestDiscoveryStrategy(new FileSystemBeanArchiveHandler()).performDiscovery());
+        assertEquals(ARCHIVES, concurrent.size());
+        assertEquals(sequential, concurrent);
+        for (int i = 0; i < ARCHIVES; i++) {
+            assertTrue(concurrent.get(beanArchives.get(getBeansXml(i))).contains("org.foo" + i + ".bar.Bar"));
+        }
+    }
+
+    @Test
+    public void testNonThreadSafeHandlerUsedSequentially() {
+        RecordingHandler handler = new RecordingHandler();
+        new TestDiscoveryStrategy(handler).performDiscovery();
+        assertEquals(Collections.singleton(Thread.currentThread().getName()), new HashSet<String>(handler.threads.values()));
+        assertEquals(ARCHIVES, handler.threads.size());
+    }
+
+    private BeansXml getBeansXml(int index) {
+        int i = 0;
+        for (BeansXml beansXml : beanArchives.keySet()) {
+            if (i++ == index) {
+                return beansXml;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static Map<String, Set<String>> toMap(Set<WeldBeanDeploymentArchive> archives) {
+        Map<String, Set<String>> result = new HashMap<String, Set<String>>();
+        for (WeldBeanDeploymentArchive archive : archives) {
+            result.put(archive.getId(), new HashSet<String>(archive.getBeanClasses()));
+        }
+        return result;
+    }
+
+    private static BeansXml newBeansXml() {
+        // BeansXmlImpl does not override equals() so that each archive gets a separate key
+        return new BeansXmlImpl(Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(),
+                Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(), new ScanningImpl(
+                        Collections.<Metadata<Filter>> emptyList(), Collections.<Metadata<Filter>> emptyList()), null, BeanDiscoveryMode.ALL, null);
+    }
+
+    private static class RecordingHandler extends FileSystemBeanArchiveHandler {
+
+        private final Map<String, String> threads = new ConcurrentHashMap<String, String>();
+
+        @Override
+        public BeanArchiveBuilder handle(String path) {
+            threads.put(path, Thread.currentThread().getName());
+            return super.handle(path);
+        }
+    }
+
+    private class TestDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+        TestDiscoveryStrategy(BeanArchiveHandler handler) {
+            super(null, null, Collections.<Class<? extends Annotation>> emptySet());
+            setScanner(new BeanArchiveScanner() {
+                @Override
+                public Map<BeansXml, String> scan() {
+                    return beanArchives;
+                }
+            });
+            registerHandler(handler);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.metadata.BeansXmlImpl;
+import org.jboss.weld.metadata.ScanningImpl;
+import org.jboss.weld.util.reflection.Formats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoverySnapshotTest {
+
+    private static final Set<Class<? extends Annotation>> ANNOTATIONS = Collections.<Class<? extends Annotation>> singleton(ApplicationScoped.class);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File archive;
+    private File snapshotFile;
+    private String key;
+
+    @Before
+    public void init() throws IOException {
+        archive = folder.newFolder("archive");
+        Files.write(new File(archive, "Foo.class").toPath(), new byte[] { 1, 2, 3 });
+        snapshotFile = new File(folder.getRoot(), "snapshot");
+        key = DiscoverySnapshot.createKey(TestDiscoveryStrategy.class, ANNOTATIONS);
+        System.setProperty(DiscoverySnapshot.SNAPSHOT_SYSTEM_PROPERTY, snapshotFile.getPath());
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(DiscoverySnapshot.SNAPSHOT_SYSTEM_PROPERTY);
+    }
+
+    @Test
+    public void testKey() {
+        assertTrue(key.startsWith(Formats.version(WeldBootstrap.class.getPackage())));
+        assertFalse(key.equals(DiscoverySnapshot.createKey(TestDiscoveryStrategy.class,
+                Collections.<Class<? extends Annotation>> singleton(Dependent.class))));
+    }
+
+    @Test
+    public void testRestore() {
+        writeSnapshot(BeansXml.EMPTY_BEANS_XML);
+        DiscoverySnapshot snapshot = DiscoverySnapshot.read(snapshotFile, key);
+        assertNotNull(snapshot);
+        Collection<BeanArchiveBuilder> builders = snapshot.restore(beanArchives(BeansXml.EMPTY_BEANS_XML));
+        assertNotNull(builders);
+        assertEquals(1, builders.size());
+        BeanArchiveBuilder builder = builders.iterator().next();
+        assertEquals(archive.getPath(), builder.getId());
+        assertEquals(Collections.singleton("org.foo.Foo"), builder.getClasses());
+    }
+
+    @Test
+    public void testDifferentKey() {
+        writeSnapshot(BeansXml.EMPTY_BEANS_XML);
+        assertNull(DiscoverySnapshot.read(snapshotFile, "other" + key));
+    }
+
+    @Test
+    public void testArchiveChanged() throws IOException {
+        writeSnapshot(BeansXml.EMPTY_BEANS_XML);
+        Files.write(new File(archive, "Bar.class").toPath(), new byte[] { 1 });
+        assertNull(DiscoverySnapshot.read(snapshotFile, key).restore(beanArchives(BeansXml.EMPTY_BEANS_XML)));
+    }
+
+    @Test
+    public void testDiscoveryModeChanged() {
+        writeSnapshot(BeansXml.EMPTY_BEANS_XML);
+        BeansXml annotated = new BeansXmlImpl(Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(),
+                Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(), new ScanningImpl(
+                        Collections.<Metadata<Filter>> emptyList(),
+                        Collections.<Metadata<Filter>> emptyList()), null, BeanDiscoveryMode.ANNOTATED, null);
+        assertNull(DiscoverySnapshot.read(snapshotFile, key).restore(beanArchives(annotated)));
+    }
+
+    @Test
+    public void testStrategyRestoresSnapshot() {
+        TestDiscoveryStrategy strategy = new TestDiscoveryStrategy();
+        Set<WeldBeanDeploymentArchive> discovered = strategy.performDiscovery();
+        assertEquals(1, strategy.handled);
+        assertEquals(1, strategy.beforeDiscovery);
+        assertTrue(snapshotFile.isFile());
+
+        strategy = new TestDiscoveryStrategy();
+        Set<WeldBeanDeploymentArchive> restored = strategy.performDiscovery();
+        // the archive is not handled again but the strategy still initializes before the archives are built
+        assertEquals(0, strategy.handled);
+        assertEquals(1, strategy.beforeDiscovery);
+        assertEquals(1, restored.size());
+        assertEquals(discovered.iterator().next().getId(), restored.iterator().next().getId());
+        assertEquals(Collections.singleton("org.foo.Foo"), restored.iterator().next().getBeanClasses());
+    }
+
+    private void writeSnapshot(BeansXml beansXml) {
+        WeldBeanDeploymentArchive bda = new BeanArchiveBuilder().setId(archive.getPath()).setBeansXml(beansXml).addClass("org.foo.Foo").build();
+        DiscoverySnapshot.write(snapshotFile, key, beanArchives(beansXml), Collections.singleton(bda));
+    }
+
+    private Map<BeansXml, String> beanArchives(BeansXml beansXml) {
+        Map<BeansXml, String> beanArchives = new HashMap<BeansXml, String>();
+        beanArchives.put(beansXml, archive.getPath());
+        return beanArchives;
+    }
+
+    private class TestDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+        private int handled;
+        private int beforeDiscovery;
+
+        TestDiscoveryStrategy() {
+            super(null, null, ANNOTATIONS);
+            setScanner(new BeanArchiveScanner() {
+                @Override
+                public Map<BeansXml, String> scan() {
+                    return beanArchives(BeansXml.EMPTY_BEANS_XML);
+                }
+            });
+            registerHandler(new BeanArchiveHandler() {
+                @Override
+                public BeanArchiveBuilder handle(String beanArchiveReference) {
+                    handled++;
+                    return new BeanArchiveBuilder().addClass("org.foo.Foo");
+                }
+            });
+        }
+
+        @Override
+        protected void beforeDiscovery(Collection<BeanArchiveBuilder> builders) {
+            beforeDiscovery++;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexFileSystemBeanArchiveHandler;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemBeanArchiveHandlerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDirectory() throws IOException {
+        File root = folder.newFolder("classes");
+        createFile(root, "org/foo/Foo.class");
+        createFile(root, "org/foo/bar/Bar.class");
+        createFile(root, "org/foo/bar/Bar$Inner.class");
+        createFile(root, "META-INF/beans.xml");
+        createFile(root, "org/foo/readme.txt");
+        BeanArchiveBuilder builder = new FileSystemBeanArchiveHandler().handle(root.getPath());
+        assertNotNull(builder);
+        assertEquals(new HashSet<String>(Arrays.asList("org.foo.Foo", "org.foo.bar.Bar", "org.foo.bar.Bar$Inner")), builder.getClasses());
+    }
+
+    @Test
+    public void testSymbolicLinksFollowed() throws IOException {
+        File root = folder.newFolder("classes");
+        File target = folder.newFolder("target");
+        createFile(target, "Baz.class");
+        try {
+            Files.createSymbolicLink(new File(root, "org").toPath(), target.toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            Assume.assumeNoException(e);
+        }
+        BeanArchiveBuilder builder = new FileSystemBeanArchiveHandler().handle(root.getPath());
+        assertEquals(new HashSet<String>(Arrays.asList("org.Baz")), builder.getClasses());
+    }
+
+    @Test
+    public void testArchiveFile() throws IOException {
+        File jar = folder.newFile("archive.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("org/foo/Foo.class"));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("META-INF/beans.xml"));
+            out.closeEntry();
+        }
+        BeanArchiveBuilder builder = new FileSystemBeanArchiveHandler().handle(jar.getPath());
+        assertEquals(new HashSet<String>(Arrays.asList("org.foo.Foo")), builder.getClasses());
+    }
+
+    @Test
+    public void testNonExistentPath() {
+        assertNull(new FileSystemBeanArchiveHandler().handle(new File(folder.getRoot(), "missing").getPath()));
+    }
+
+    @Test
+    public void testThreadSafety() {
+        assertTrue(new FileSystemBeanArchiveHandler().isThreadSafe());
+        // a subclass may hold state
+        assertFalse(new FileSystemBeanArchiveHandler() {
+        }.isThreadSafe());
+        assertFalse(new JandexFileSystemBeanArchiveHandler().isThreadSafe());
+    }
+
+    static void createFile(File root, String path) throws IOException {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), new byte[] { 0 });
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.literal.AnyLiteral;
+
+/**
+ * Generates the proxy classes of an application ahead of time so that they do not need to be generated when the application boots.
+ * The application is booted once with the {@link ConfigurationKey#PROXY_CACHE} directory set. Intercepted subclasses and decorator
+ * proxies are generated during bootstrap, client proxies of normal-scoped beans are generated explicitly. All the generated classes
+ * are stored in the given directory. The application then needs to be started with the same configuration property pointing to the
+ * directory. For example:
+ *
+ * <code>
+ * java -cp weld-se-shaded.jar:my-app.jar org.jboss.weld.environment.se.ProxyCacheGenerator /var/cache/my-app
+ * </code>
+ */
+public class ProxyCacheGenerator {
+
+    private ProxyCacheGenerator() {
+    }
+
+    /**
+     * The main method called from the command line.
+     *
+     * @param args the command line arguments, the first one is the proxy cache directory
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: " + ProxyCacheGenerator.class.getName() + " <proxy cache directory>");
+            System.exit(1);
+        }
+        System.setProperty(ConfigurationKey.PROXY_CACHE.get(), args[0]);
+        Weld weld = new Weld();
+        try {
+            generateClientProxies(weld.initialize().getBeanManager());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    private static void generateClientProxies(BeanManager manager) {
+        for (Bean<?> bean : manager.getBeans(Object.class, AnyLiteral.INSTANCE)) {
+            if (manager.isNormalScope(bean.getScope())) {
+                // obtaining a reference to a normal-scoped bean creates the client proxy without creating the bean instance
+                manager.getReference(bean, Object.class, manager.createCreationalContext(bean));
+            }
+        }
+    }
+}
@@ -175,6 +175,14 @@ public class DecoratorProxyFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected void appendSignature(StringBuilder signature) {
+        signature.append(delegateInjectionPoint.getMember());
+        if (delegateInjectionPoint instanceof ParameterInjectionPoint<?, ?>) {
+            signature.append(((ParameterInjectionPoint<?, ?>) delegateInjectionPoint).getAnnotated().getPosition());
+        }
+    }
+
     private void createAbstractMethodCode(ClassMethod classMethod, MethodInformation method, ClassMethod staticConstructor) {
         if ((delegateField != null) && (!Modifier.isPrivate(delegateField.getModifiers()))) {
             // Call the corresponding method directly on the delegate
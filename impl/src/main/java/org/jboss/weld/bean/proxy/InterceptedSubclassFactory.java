@@ -25,7 +25,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.inject.spi.Bean;
@@ -107,6 +111,22 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected void appendSignature(StringBuilder signature) {
+        appendMethodSignatures(signature, enhancedMethodSignatures);
+        appendMethodSignatures(signature, interceptedMethodSignatures);
+    }
+
+    private static void appendMethodSignatures(StringBuilder signature, Set<MethodSignature> methodSignatures) {
+        // the signature sets are hash sets
+        List<String> sorted = new ArrayList<String>(methodSignatures.size());
+        for (MethodSignature methodSignature : methodSignatures) {
+            sorted.add(methodSignature.getMethodName() + Arrays.toString(methodSignature.getParameterTypes()));
+        }
+        Collections.sort(sorted);
+        signature.append(sorted);
+    }
+
     @Override
     protected void addMethods(ClassFile proxyClassType, ClassMethod staticConstructor) {
         // Add all class methods for interception
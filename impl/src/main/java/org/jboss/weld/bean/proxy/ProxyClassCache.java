@@ -0,0 +1,215 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.security.GetDeclaredConstructorsAction;
+import org.jboss.weld.security.GetDeclaredMethodsAction;
+import org.jboss.weld.util.bytecode.ClassFileUtils;
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * A persistent cache of generated proxy classes. The bytecode of a proxy class is stored in the cache directory together with the
+ * signature hash of the proxy. The signature hash covers everything the generated bytecode depends on - the Weld version, the proxy
+ * factory, the proxy class name and the members of the proxied types. A stored proxy class is only used if its signature hash matches
+ * the hash computed for the proxy factory at runtime. Otherwise the proxy class is generated as usual and stored in the cache.
+ *
+ * <p>
+ * Each file starts with the SHA-1 checksum of the stored bytecode. A file whose checksum does not match, or whose bytecode cannot be
+ * defined, is deleted and the proxy class is generated again.
+ * </p>
+ *
+ * <p>
+ * The cache directory may be populated ahead of time, e.g. by booting the application once with the cache enabled.
+ * </p>
+ * @see org.jboss.weld.config.ConfigurationKey#PROXY_CACHE
+ */
+final class ProxyClassCache {
+
+    private static final String WELD_VERSION = Formats.version(WeldBootstrap.class.getPackage());
+    private static final String FILE_SUFFIX = ".proxy";
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+    private static final int CHECKSUM_LENGTH = 20;
+    private static final char SEPARATOR = '-';
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ProxyClassCache() {
+    }
+
+    /**
+     * Creates a new signature builder initialized with the version of Weld.
+     */
+    static StringBuilder newSignature(String proxyClassName, Class<?> proxyFactoryClass) {
+        return new StringBuilder(WELD_VERSION).append(SEPARATOR).append(proxyFactoryClass.getName()).append(SEPARATOR).append(proxyClassName);
+    }
+
+    /**
+     * Appends the members of the given type, its superclasses and all the implemented interfaces to the signature.
+     */
+    static void appendTypeSignature(StringBuilder signature, Class<?> type) {
+        appendTypeSignature(signature, type, new HashSet<Class<?>>());
+    }
+
+    private static void appendTypeSignature(StringBuilder signature, Class<?> type, Set<Class<?>> processed) {
+        if (type == null || type == Object.class || !processed.add(type)) {
+            return;
+        }
+        List<String> members = new ArrayList<String>();
+        for (Method method : AccessController.doPrivileged(new GetDeclaredMethodsAction(type))) {
+            members.add(method.toGenericString());
+        }
+        for (Constructor<?> constructor : AccessController.doPrivileged(new GetDeclaredConstructorsAction(type))) {
+            members.add(constructor.toGenericString());
+        }
+        // reflection does not guarantee any particular order
+        Collections.sort(members);
+        signature.append(SEPARATOR).append(type.getName()).append(SEPARATOR).append(type.getModifiers());
+        for (String member : members) {
+            signature.append(SEPARATOR).append(member);
+        }
+        appendTypeSignature(signature, type.getSuperclass(), processed);
+        for (Class<?> iface : type.getInterfaces()) {
+            appendTypeSignature(signature, iface, processed);
+        }
+    }
+
+    /**
+     * @return the hex encoded SHA-1 hash of the signature
+     */
+    static String hash(CharSequence signature) {
+        byte[] digest = digest(signature.toString().getBytes(StandardCharsets.UTF_8));
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static byte[] digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // every implementation of the Java platform is required to support SHA-1
+            throw new org.jboss.weld.exceptions.IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Defines the stored proxy class. If the stored bytecode cannot be defined, the file is deleted.
+     *
+     * @return the proxy class or null if there is no valid proxy class with the given signature hash in the cache
+     */
+    static Class<?> load(File cacheDirectory, String proxyClassName, String signatureHash, ClassLoader classLoader, ProtectionDomain domain) {
+        byte[] bytecode = read(cacheDirectory, proxyClassName, signatureHash);
+        if (bytecode == null) {
+            return null;
+        }
+        try {
+            return ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, domain);
+        } catch (RuntimeException | LinkageError e) {
+            File file = getFile(cacheDirectory, proxyClassName, signatureHash);
+            BeanLogger.LOG.proxyClassCannotBeDefinedFromCache(file, e);
+            delete(file);
+            return null;
+        }
+    }
+
+    /**
+     * @return the stored bytecode of the proxy class or null if there is no proxy class with the given signature hash in the cache or if
+     *         the stored bytecode does not match its checksum
+     */
+    static byte[] read(File cacheDirectory, String proxyClassName, String signatureHash) {
+        File file = getFile(cacheDirectory, proxyClassName, signatureHash);
+        if (!file.isFile()) {
+            return null;
+        }
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            BeanLogger.LOG.proxyClassCannotBeReadFromCache(file, e);
+            return null;
+        }
+        if (content.length <= CHECKSUM_LENGTH) {
+            BeanLogger.LOG.corruptedProxyClassInCache(file);
+            delete(file);
+            return null;
+        }
+        byte[] bytecode = Arrays.copyOfRange(content, CHECKSUM_LENGTH, content.length);
+        if (!MessageDigest.isEqual(Arrays.copyOf(content, CHECKSUM_LENGTH), digest(bytecode))) {
+            BeanLogger.LOG.corruptedProxyClassInCache(file);
+            delete(file);
+            return null;
+        }
+        return bytecode;
+    }
+
+    /**
+     * Stores the bytecode of the proxy class together with its checksum. The file is written under a temporary name first and then
+     * moved so that a concurrently booting application never reads a partially written file.
+     */
+    static void write(File cacheDirectory, String proxyClassName, String signatureHash, byte[] bytecode) {
+        File file = getFile(cacheDirectory, proxyClassName, signatureHash);
+        try {
+            Path tmp = Files.createTempFile(cacheDirectory.toPath(), proxyClassName, null);
+            try {
+                byte[] content = new byte[CHECKSUM_LENGTH + bytecode.length];
+                System.arraycopy(digest(bytecode), 0, content, 0, CHECKSUM_LENGTH);
+                System.arraycopy(bytecode, 0, content, CHECKSUM_LENGTH, bytecode.length);
+                Files.write(tmp, content);
+                Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            BeanLogger.LOG.proxyClassCannotBeStoredInCache(proxyClassName, e);
+        }
+    }
+
+    private static void delete(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            BeanLogger.LOG.proxyClassCannotBeDeletedFromCache(file, e);
+        }
+    }
+
+    private static File getFile(File cacheDirectory, String proxyClassName, String signatureHash) {
+        return new File(cacheDirectory, proxyClassName + SEPARATOR + signatureHash + FILE_SUFFIX);
+    }
+}
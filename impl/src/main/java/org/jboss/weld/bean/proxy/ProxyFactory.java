@@ -51,6 +51,7 @@ import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.util.Boxing;
 import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -432,6 +433,17 @@ public class ProxyFactory<T> {
         // Remove special interfaces from main set (deserialization scenario)
         additionalInterfaces.removeAll(specialInterfaces);
 
+        File proxyCacheDirectory = configuration.getProxyCacheFilePath();
+        String signatureHash = null;
+        if (proxyCacheDirectory != null) {
+            signatureHash = getSignatureHash(proxyClassName, specialInterfaces);
+            Class<T> proxyClass = cast(ProxyClassCache.load(proxyCacheDirectory, proxyClassName, signatureHash, classLoader, getProtectionDomain()));
+            if (proxyClass != null) {
+                BeanLogger.LOG.loadedProxyClassFromCache(proxyClass, proxyCacheDirectory);
+                return proxyClass;
+            }
+        }
+
         ClassFile proxyClassType = null;
         if (getBeanType().isInterface()) {
             proxyClassType = new ClassFile(proxyClassName, Object.class.getName());
@@ -461,9 +473,19 @@ public class ProxyFactory<T> {
         // TODO: change the ProxyServices SPI to allow the container to figure out
         // which PD to use
 
+        byte[] bytecode = proxyClassType.toBytecode();
         // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        dumpToFile(proxyClassName, bytecode);
+        if (signatureHash != null) {
+            ProxyClassCache.write(proxyCacheDirectory, proxyClassName, signatureHash, bytecode);
+        }
+
+        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, getProtectionDomain()));
+        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        return proxyClass;
+    }
 
+    private ProtectionDomain getProtectionDomain() {
         ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(proxiedBeanType));
 
         if (proxiedBeanType.getPackage() == null || proxiedBeanType.equals(Object.class)) {
@@ -472,9 +494,42 @@ public class ProxyFactory<T> {
             ProtectionDomainCache cache = Container.instance(contextId).services().get(ProtectionDomainCache.class);
             domain = cache.getProtectionDomainForProxy(domain);
         }
-        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
-        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
-        return proxyClass;
+        return domain;
+    }
+
+    /**
+     * Computes the signature hash of the proxy class, i.e. a hash of everything the generated bytecode depends on.
+     *
+     * @see ProxyClassCache
+     */
+    private String getSignatureHash(String proxyClassName, Set<Class<?>> specialInterfaces) {
+        StringBuilder signature = ProxyClassCache.newSignature(proxyClassName, getClass());
+        signature.append(contextId).append(isUsingUnsafeInstantiators());
+        ProxyClassCache.appendTypeSignature(signature, proxiedBeanType);
+        ProxyClassCache.appendTypeSignature(signature, getBeanType());
+        for (Class<?> clazz : additionalInterfaces) {
+            ProxyClassCache.appendTypeSignature(signature, clazz);
+        }
+        // special interfaces are stored in a hash set
+        List<String> specialInterfaceNames = new ArrayList<String>(specialInterfaces.size());
+        for (Class<?> specialInterface : specialInterfaces) {
+            specialInterfaceNames.add(specialInterface.getName());
+        }
+        Collections.sort(specialInterfaceNames);
+        signature.append(specialInterfaceNames);
+        appendSignature(signature);
+        return ProxyClassCache.hash(signature);
+    }
+
+    /**
+     * Subclasses which generate the bytecode based on additional state need to append the state to the signature of the proxy class
+     * so that a stale proxy class is never loaded from the proxy cache.
+     *
+     * @param signature the signature of the proxy class
+     * @see ConfigurationKey#PROXY_CACHE
+     */
+    protected void appendSignature(StringBuilder signature) {
+        // noop
     }
 
     private void dumpToFile(String fileName, byte[] data) {
@@ -24,6 +24,7 @@ import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 
@@ -40,12 +41,23 @@ public class SerializableClientProxy implements Serializable {
 
     private static final long serialVersionUID = -46820068707447753L;
 
+    // Either the bean identifier or its position in the bean identifier index is used, the position is null if serialized by an older version
     private final BeanIdentifier beanId;
+    private final Integer beanIdIndex;
+    private final Integer indexHash;
     private final String contextId;
 
     public SerializableClientProxy(final BeanIdentifier beanId, final String contextId) {
-        this.beanId = beanId;
         this.contextId = contextId;
+        BeanIdentifierIndex index = Container.instance(contextId).services().get(BeanIdentifierIndex.class);
+        this.beanIdIndex = index.getCompactIndex(beanId);
+        if (beanIdIndex == null) {
+            this.beanId = beanId;
+            this.indexHash = null;
+        } else {
+            this.beanId = null;
+            this.indexHash = index.getIndexHash();
+        }
     }
 
     /**
@@ -55,11 +67,16 @@ public class SerializableClientProxy implements Serializable {
      * @throws java.io.ObjectStreamException
      */
     Object readResolve() throws ObjectStreamException {
-        Bean<?> bean = Container.instance(contextId).services().get(ContextualStore.class).<Bean<Object>, Object>getContextual(beanId);
+        Container container = Container.instance(contextId);
+        BeanIdentifier id = beanId;
+        if (beanIdIndex != null) {
+            id = container.services().get(BeanIdentifierIndex.class).getIdentifier(beanIdIndex, indexHash);
+        }
+        Bean<?> bean = container.services().get(ContextualStore.class).<Bean<Object>, Object>getContextual(id);
         if (bean == null) {
-            throw BeanLogger.LOG.proxyDeserializationFailure(beanId);
+            throw BeanLogger.LOG.proxyDeserializationFailure(id);
         }
-        return Container.instance(contextId).deploymentManager().getClientProxyProvider().getClientProxy(bean);
+        return container.deploymentManager().getClientProxyProvider().getClientProxy(bean);
     }
 
 }
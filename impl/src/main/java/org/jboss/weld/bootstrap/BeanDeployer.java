@@ -188,19 +188,27 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         }
         // create session beans
         for (InternalEjbDescriptor<?> ejbDescriptor : getEnvironment().getEjbDescriptors()) {
-            if (getEnvironment().isVetoed(ejbDescriptor.getBeanClass()) || Beans.isVetoed(ejbDescriptor.getBeanClass())) {
-                continue;
-            }
-            if (ejbDescriptor.isSingleton() || ejbDescriptor.isStateful() || ejbDescriptor.isStateless()) {
-                Set<SlimAnnotatedType<?>> classes = otherWeldClasses.get(ejbDescriptor.getBeanClass());
-                if (!classes.isEmpty()) {
-                    for (SlimAnnotatedType<?> annotatedType : classes) {
-                        EnhancedAnnotatedType<?> weldClass = classTransformer.getEnhancedAnnotatedType(annotatedType);
-                        createSessionBean(ejbDescriptor, Reflections.<EnhancedAnnotatedType> cast(weldClass));
-                    }
-                } else {
-                    createSessionBean(ejbDescriptor);
+            createSessionBeans(ejbDescriptor, otherWeldClasses);
+        }
+    }
+
+    /**
+     * Creates the session beans for the given EJB descriptor. Must be called once {@link #createClassBean(SlimAnnotatedType, SetMultimap)} was
+     * called for all the annotated types.
+     */
+    protected void createSessionBeans(InternalEjbDescriptor<?> ejbDescriptor, SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses) {
+        if (getEnvironment().isVetoed(ejbDescriptor.getBeanClass()) || Beans.isVetoed(ejbDescriptor.getBeanClass())) {
+            return;
+        }
+        if (ejbDescriptor.isSingleton() || ejbDescriptor.isStateful() || ejbDescriptor.isStateless()) {
+            Set<SlimAnnotatedType<?>> classes = otherWeldClasses.get(ejbDescriptor.getBeanClass());
+            if (!classes.isEmpty()) {
+                for (SlimAnnotatedType<?> annotatedType : classes) {
+                    EnhancedAnnotatedType<?> weldClass = classTransformer.getEnhancedAnnotatedType(annotatedType);
+                    createSessionBean(ejbDescriptor, Reflections.<EnhancedAnnotatedType> cast(weldClass));
                 }
+            } else {
+                createSessionBean(ejbDescriptor);
             }
         }
     }
@@ -230,6 +230,11 @@ public class BeanDeployment {
     }
 
     public void createBeans(Environment environment) {
+        createBuiltInBeans();
+        beanDeployer.createClassBeans();
+    }
+
+    public void createBuiltInBeans() {
         beanDeployer.addBuiltInBean(new InjectionPointBean(beanManager));
         beanDeployer.addBuiltInBean(new EventMetadataBean(beanManager));
         beanDeployer.addBuiltInBean(new EventBean(beanManager));
@@ -255,10 +260,6 @@ public class BeanDeployment {
         for (ContextHolder<? extends Context> context : contexts) {
             beanDeployer.addBuiltInBean(ContextBean.of(context, beanManager));
         }
-
-        // TODO Register the context beans
-        beanDeployer.createClassBeans();
-
     }
 
     public void deploySpecialized(Environment environment) {
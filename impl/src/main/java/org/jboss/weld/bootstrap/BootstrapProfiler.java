@@ -0,0 +1,390 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.weld.bootstrap.api.BootstrapService;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Records the wall-clock time, CPU time, allocated memory and the number of loaded classes of the bootstrap phases, of the phases of
+ * individual bean deployment archives and of the extension observer methods notified during bootstrap. The results are written as a
+ * JSON report once the container is initialized.
+ *
+ * <p>
+ * The CPU time and the allocated memory only cover the thread which performs the measured work. Work delegated to the Weld thread pool is
+ * only reflected in the wall-clock time. The number of loaded classes is a JVM-wide counter. A value of -1 means that the metric is not
+ * supported by the JVM.
+ * </p>
+ *
+ * <p>
+ * The values of an extension observer method do not include the cost of the extension observer methods notified while it is running,
+ * e.g. when it fires an event observed by another extension. This cost is only attributed to the nested observer methods so that no
+ * notification is counted twice.
+ * </p>
+ * @see org.jboss.weld.config.ConfigurationKey#BOOTSTRAP_PROFILER_REPORT
+ */
+public class BootstrapProfiler implements BootstrapService {
+
+    private static final Measurement NOOP = new Measurement(null, null, null, false);
+
+    private final File reportFile;
+    private final ThreadMXBean threadBean;
+    private final ClassLoadingMXBean classLoadingBean;
+    private final Method allocatedBytesMethod;
+    private final Map<String, Stats> phases;
+    private final Map<String, Stats> archives;
+    private final Map<String, Stats> observers;
+    private final ThreadLocal<Measurement> currentObserver;
+    private volatile boolean recording;
+
+    /**
+     * @param reportFile the file the report is written to or null if the profiler is disabled
+     */
+    public BootstrapProfiler(File reportFile) {
+        this.reportFile = reportFile;
+        this.recording = reportFile != null;
+        this.phases = new LinkedHashMap<String, Stats>();
+        this.archives = new LinkedHashMap<String, Stats>();
+        this.observers = new LinkedHashMap<String, Stats>();
+        this.currentObserver = new ThreadLocal<Measurement>();
+        if (recording) {
+            this.threadBean = ManagementFactory.getThreadMXBean();
+            this.classLoadingBean = ManagementFactory.getClassLoadingMXBean();
+            this.allocatedBytesMethod = findAllocatedBytesMethod(threadBean);
+        } else {
+            this.threadBean = null;
+            this.classLoadingBean = null;
+            this.allocatedBytesMethod = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return recording;
+    }
+
+    /**
+     * Starts measuring a bootstrap phase.
+     */
+    public Measurement startPhase(String phase) {
+        return start(phases, phase);
+    }
+
+    /**
+     * Starts measuring a phase of a single bean deployment archive.
+     */
+    public Measurement startArchive(String phase, BeanDeployment deployment) {
+        if (!recording) {
+            return NOOP;
+        }
+        return start(archives, phase + '\u0000' + deployment.getBeanDeploymentArchive().getId());
+    }
+
+    /**
+     * Starts measuring a notification of an extension observer method. The measurement must be stopped by the same thread.
+     *
+     * @param observer the observer method
+     * @param event the event type
+     */
+    public Measurement startObserver(Object observer, Class<?> event) {
+        if (!recording) {
+            return NOOP;
+        }
+        Measurement measurement = new Measurement(this, observers, observer + "\u0000" + event.getName(), true);
+        currentObserver.set(measurement);
+        return measurement;
+    }
+
+    private Measurement start(Map<String, Stats> target, String key) {
+        if (!recording) {
+            return NOOP;
+        }
+        return new Measurement(this, target, key, false);
+    }
+
+    private long cpuTime() {
+        return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long allocatedBytes() {
+        if (allocatedBytesMethod == null) {
+            return -1;
+        }
+        try {
+            return (Long) allocatedBytesMethod.invoke(threadBean, Thread.currentThread().getId());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private void record(Map<String, Stats> target, String key, long wallTime, long cpuTime, long allocatedBytes, long loadedClasses) {
+        synchronized (target) {
+            Stats stats = target.get(key);
+            if (stats == null) {
+                stats = new Stats(key);
+                target.put(key, stats);
+            }
+            stats.add(wallTime, cpuTime, allocatedBytes, loadedClasses);
+        }
+    }
+
+    /**
+     * Writes the report and stops recording.
+     *
+     * @param contextId the container id
+     */
+    public void writeReport(String contextId) {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        try {
+            File directory = reportFile.getAbsoluteFile().getParentFile();
+            if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create directory " + directory);
+            }
+            try (Writer writer = new OutputStreamWriter(Files.newOutputStream(reportFile.toPath()), StandardCharsets.UTF_8)) {
+                writer.write(toJson(contextId));
+            }
+            BootstrapLogger.LOG.bootstrapProfilerReportWritten(reportFile);
+        } catch (IOException e) {
+            BootstrapLogger.LOG.unableToWriteBootstrapProfilerReport(reportFile, e);
+        }
+    }
+
+    String toJson(String contextId) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"contextId\": ");
+        appendString(json, contextId);
+        json.append(",\n  \"phases\": [");
+        appendStats(json, phases, false, "phase", null);
+        json.append("\n  ],\n  \"archives\": [");
+        appendStats(json, archives, true, "phase", "archive");
+        json.append("\n  ],\n  \"extensionObservers\": [");
+        appendStats(json, observers, true, "observer", "event");
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static void appendStats(StringBuilder json, Map<String, Stats> source, boolean sortByWallTime, String keyName, String subKeyName) {
+        List<Stats> values;
+        synchronized (source) {
+            values = new ArrayList<Stats>(source.values());
+        }
+        if (sortByWallTime) {
+            // the most expensive first
+            Collections.sort(values, new Comparator<Stats>() {
+                @Override
+                public int compare(Stats o1, Stats o2) {
+                    return Long.compare(o2.wallTime, o1.wallTime);
+                }
+            });
+        }
+        boolean first = true;
+        for (Stats stats : values) {
+            json.append(first ? "\n    {" : ",\n    {");
+            first = false;
+            int separator = stats.key.indexOf('\u0000');
+            json.append('"').append(keyName).append("\": ");
+            appendString(json, separator < 0 ? stats.key : stats.key.substring(0, separator));
+            if (subKeyName != null && separator >= 0) {
+                json.append(", \"").append(subKeyName).append("\": ");
+                appendString(json, stats.key.substring(separator + 1));
+            }
+            json.append(", \"invocations\": ").append(stats.invocations);
+            json.append(", \"wallTimeNanos\": ").append(stats.wallTime);
+            json.append(", \"cpuTimeNanos\": ").append(stats.cpuTime);
+            json.append(", \"allocatedBytes\": ").append(stats.allocatedBytes);
+            json.append(", \"loadedClasses\": ").append(stats.loadedClasses);
+            json.append('}');
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static Method findAllocatedBytesMethod(ThreadMXBean threadBean) {
+        // com.sun.management.ThreadMXBean is not available on every JVM
+        try {
+            Class<?> sunThreadBean = Class.forName("com.sun.management.ThreadMXBean");
+            if (sunThreadBean.isInstance(threadBean)) {
+                return sunThreadBean.getMethod("getThreadAllocatedBytes", long.class);
+            }
+        } catch (Exception e) {
+            // not supported
+        }
+        return null;
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        // the report is written once the container is initialized
+    }
+
+    @Override
+    public void cleanup() {
+        recording = false;
+        synchronized (phases) {
+            phases.clear();
+        }
+        synchronized (archives) {
+            archives.clear();
+        }
+        synchronized (observers) {
+            observers.clear();
+        }
+    }
+
+    /**
+     * A single running measurement.
+     */
+    public static class Measurement {
+
+        private final BootstrapProfiler profiler;
+        private final Map<String, Stats> target;
+        private final String key;
+        private final boolean observer;
+        // the enclosing observer notification of the same thread, if any
+        private final Measurement parent;
+        private final long wallTime;
+        private final long cpuTime;
+        private final long allocatedBytes;
+        private final long loadedClasses;
+        // the totals of the nested observer notifications, only accessed by the measuring thread
+        private long nestedWallTime;
+        private long nestedCpuTime;
+        private long nestedAllocatedBytes;
+        private long nestedLoadedClasses;
+
+        private Measurement(BootstrapProfiler profiler, Map<String, Stats> target, String key, boolean observer) {
+            this.profiler = profiler;
+            this.target = target;
+            this.key = key;
+            this.observer = observer;
+            this.parent = observer ? profiler.currentObserver.get() : null;
+            if (profiler != null) {
+                this.cpuTime = profiler.cpuTime();
+                this.allocatedBytes = profiler.allocatedBytes();
+                this.loadedClasses = profiler.classLoadingBean.getTotalLoadedClassCount();
+                this.wallTime = System.nanoTime();
+            } else {
+                this.cpuTime = 0;
+                this.allocatedBytes = 0;
+                this.loadedClasses = 0;
+                this.wallTime = 0;
+            }
+        }
+
+        /**
+         * Stops the measurement and records the result.
+         */
+        public void stop() {
+            if (profiler == null) {
+                return;
+            }
+            if (observer) {
+                if (parent == null) {
+                    profiler.currentObserver.remove();
+                } else {
+                    profiler.currentObserver.set(parent);
+                }
+            }
+            if (!profiler.recording) {
+                return;
+            }
+            long wallTime = System.nanoTime() - this.wallTime;
+            long cpuTime = this.cpuTime < 0 ? -1 : profiler.cpuTime() - this.cpuTime;
+            long allocatedBytes = this.allocatedBytes < 0 ? -1 : profiler.allocatedBytes() - this.allocatedBytes;
+            long loadedClasses = profiler.classLoadingBean.getTotalLoadedClassCount() - this.loadedClasses;
+            if (parent != null) {
+                parent.nestedWallTime += wallTime;
+                parent.nestedCpuTime += cpuTime;
+                parent.nestedAllocatedBytes += allocatedBytes;
+                parent.nestedLoadedClasses += loadedClasses;
+            }
+            profiler.record(target, key, wallTime - nestedWallTime, cpuTime < 0 ? -1 : cpuTime - nestedCpuTime,
+                    allocatedBytes < 0 ? -1 : allocatedBytes - nestedAllocatedBytes, loadedClasses - nestedLoadedClasses);
+        }
+    }
+
+    private static class Stats {
+
+        private final String key;
+        private int invocations;
+        private long wallTime;
+        private long cpuTime;
+        private long allocatedBytes;
+        private long loadedClasses;
+
+        private Stats(String key) {
+            this.key = key;
+        }
+
+        private void add(long wallTime, long cpuTime, long allocatedBytes, long loadedClasses) {
+            invocations++;
+            this.wallTime += wallTime;
+            // once a metric is not available, it is reported as not supported
+            this.cpuTime = cpuTime < 0 || this.cpuTime < 0 ? -1 : this.cpuTime + cpuTime;
+            this.allocatedBytes = allocatedBytes < 0 || this.allocatedBytes < 0 ? -1 : this.allocatedBytes + allocatedBytes;
+            this.loadedClasses += loadedClasses;
+        }
+    }
+}
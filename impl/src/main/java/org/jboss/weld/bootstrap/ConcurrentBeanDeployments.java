@@ -0,0 +1,182 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.annotated.slim.SlimAnnotatedType;
+import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
+import org.jboss.weld.bean.AbstractClassBean;
+import org.jboss.weld.bootstrap.ConcurrentBeanDeployer.AfterBeanDiscoveryInitializerFactory;
+import org.jboss.weld.ejb.InternalEjbDescriptor;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.jboss.weld.injection.producer.InjectionTargetService;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.util.collections.SetMultimap;
+
+/**
+ * Processes the deployment phases which do not fire container lifecycle events for all the bean deployments at once. Instead of
+ * processing the bean deployments one after another, each of them with its own set of parallel tasks, the work items of all the bean
+ * deployments are put into a single queue. There is then only a single barrier per phase, no matter how many bean deployment archives
+ * the deployment consists of.
+ *
+ * <p>
+ * The phases which fire container lifecycle events are still processed sequentially by {@link WeldStartup} so that extensions observe
+ * the events in the same order as before.
+ * </p>
+ * @see ConcurrentBeanDeployer
+ */
+final class ConcurrentBeanDeployments {
+
+    private final ExecutorServices executor;
+    private final Collection<BeanDeployment> deployments;
+
+    private ConcurrentBeanDeployments(ExecutorServices executor, Collection<BeanDeployment> deployments) {
+        this.executor = executor;
+        this.deployments = deployments;
+    }
+
+    /**
+     * @return a new instance or null if some of the bean deployments do not support concurrent deployment
+     */
+    static ConcurrentBeanDeployments of(ExecutorServices executor, Collection<BeanDeployment> deployments) {
+        if (executor == null) {
+            return null;
+        }
+        for (BeanDeployment deployment : deployments) {
+            if (!(deployment.getBeanDeployer() instanceof ConcurrentBeanDeployer)) {
+                return null;
+            }
+        }
+        return new ConcurrentBeanDeployments(executor, deployments);
+    }
+
+    /**
+     * The equivalent of {@link BeanDeployment#createBeans(org.jboss.weld.bootstrap.api.Environment)} for all the bean deployments.
+     */
+    void createBeans() {
+        final Map<BeanDeployer, SetMultimap<Class<?>, SlimAnnotatedType<?>>> otherWeldClasses = new IdentityHashMap<BeanDeployer, SetMultimap<Class<?>, SlimAnnotatedType<?>>>();
+        List<DeployerItem<SlimAnnotatedTypeContext<?>>> annotatedTypes = new ArrayList<DeployerItem<SlimAnnotatedTypeContext<?>>>();
+        List<DeployerItem<InternalEjbDescriptor<?>>> ejbDescriptors = new ArrayList<DeployerItem<InternalEjbDescriptor<?>>>();
+        for (BeanDeployment deployment : deployments) {
+            deployment.createBuiltInBeans();
+            BeanDeployer deployer = deployment.getBeanDeployer();
+            otherWeldClasses.put(deployer, SetMultimap.<Class<?>, SlimAnnotatedType<?>> newConcurrentSetMultimap());
+            for (SlimAnnotatedTypeContext<?> ctx : deployer.getEnvironment().getAnnotatedTypes()) {
+                annotatedTypes.add(new DeployerItem<SlimAnnotatedTypeContext<?>>(deployer, ctx));
+            }
+            for (InternalEjbDescriptor<?> descriptor : deployer.getEnvironment().getEjbDescriptors()) {
+                ejbDescriptors.add(new DeployerItem<InternalEjbDescriptor<?>>(deployer, descriptor));
+            }
+        }
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeployerItem<SlimAnnotatedTypeContext<?>>>(annotatedTypes) {
+            @Override
+            protected void doWork(DeployerItem<SlimAnnotatedTypeContext<?>> item) {
+                item.deployer.createClassBean(item.value.getAnnotatedType(), otherWeldClasses.get(item.deployer));
+            }
+        });
+        // session beans may only be created once all the annotated types of the given bean deployment are processed
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeployerItem<InternalEjbDescriptor<?>>>(ejbDescriptors) {
+            @Override
+            protected void doWork(DeployerItem<InternalEjbDescriptor<?>> item) {
+                item.deployer.createSessionBeans(item.value, otherWeldClasses.get(item.deployer));
+            }
+        });
+    }
+
+    /**
+     * The equivalent of {@link BeanDeployer#createProducersAndObservers()} for all the bean deployments. Must be called after
+     * {@link BeanDeployer#processClassBeanAttributes()} was called for all the bean deployments.
+     */
+    void createProducersAndObservers() {
+        List<DeployerItem<AbstractClassBean<?>>> classBeans = new ArrayList<DeployerItem<AbstractClassBean<?>>>();
+        for (BeanDeployment deployment : deployments) {
+            BeanDeployer deployer = deployment.getBeanDeployer();
+            for (AbstractClassBean<?> bean : deployer.getEnvironment().getClassBeans()) {
+                classBeans.add(new DeployerItem<AbstractClassBean<?>>(deployer, bean));
+            }
+        }
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<DeployerItem<AbstractClassBean<?>>>(classBeans) {
+            @Override
+            protected void doWork(DeployerItem<AbstractClassBean<?>> item) {
+                item.deployer.createObserversProducersDisposers(item.value);
+            }
+        });
+    }
+
+    /**
+     * The equivalent of {@link BeanDeployment#afterBeanDiscovery(org.jboss.weld.bootstrap.api.Environment)} for all the bean
+     * deployments. The ordering guarantees of the sequential processing are preserved:
+     * <ul>
+     * <li>the injection targets of a bean deployment are initialized before any of its beans as the beans depend on the interceptors and
+     * decorators resolved by their injection targets,</li>
+     * <li>beans, decorators and interceptors are initialized in this order, each of them exactly once even if registered with multiple
+     * bean managers,</li>
+     * <li>the interceptors of message-driven beans are registered once all the interceptors are initialized.</li>
+     * </ul>
+     * Injection targets only depend on bean metadata which is complete before this phase, so initializing all of them first does not
+     * change the result.
+     */
+    void afterBeanDiscovery() {
+        for (BeanDeployment deployment : deployments) {
+            deployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
+        }
+        List<Bean<?>> beans = new ArrayList<Bean<?>>();
+        List<Bean<?>> decorators = new ArrayList<Bean<?>>();
+        List<Bean<?>> interceptors = new ArrayList<Bean<?>>();
+        // a bean may only be initialized once even if it is registered with multiple bean managers
+        Set<Bean<?>> processed = Collections.newSetFromMap(new IdentityHashMap<Bean<?>, Boolean>());
+        for (BeanDeployment deployment : deployments) {
+            addDistinct(deployment.getBeanManager().getBeans(), beans, processed);
+            addDistinct(deployment.getBeanManager().getDecorators(), decorators, processed);
+            addDistinct(deployment.getBeanManager().getInterceptors(), interceptors, processed);
+        }
+        executor.invokeAllAndCheckForExceptions(new AfterBeanDiscoveryInitializerFactory(beans));
+        executor.invokeAllAndCheckForExceptions(new AfterBeanDiscoveryInitializerFactory(decorators));
+        executor.invokeAllAndCheckForExceptions(new AfterBeanDiscoveryInitializerFactory(interceptors));
+        for (BeanDeployment deployment : deployments) {
+            deployment.getBeanDeployer().registerCdiInterceptorsForMessageDrivenBeans();
+        }
+    }
+
+    private static void addDistinct(Collection<? extends Bean<?>> source, List<Bean<?>> target, Set<Bean<?>> processed) {
+        for (Bean<?> bean : source) {
+            if (processed.add(bean)) {
+                target.add(bean);
+            }
+        }
+    }
+
+    private static class DeployerItem<T> {
+
+        private final BeanDeployer deployer;
+        private final T value;
+
+        private DeployerItem(BeanDeployer deployer, T value) {
+            this.deployer = deployer;
+            this.value = value;
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -270,8 +271,11 @@ public class WeldStartup {
         }
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
         services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
-        BeanIdentifierIndex beanIdentifierIndex = new BeanIdentifierIndex();
+        BeanIdentifierIndex beanIdentifierIndex = new BeanIdentifierIndex(services.get(WeldConfiguration.class).getBooleanProperty(
+                ConfigurationKey.COMPACT_SERIALIZATION));
         services.add(BeanIdentifierIndex.class, beanIdentifierIndex);
+        String profilerReport = services.get(WeldConfiguration.class).getStringProperty(ConfigurationKey.BOOTSTRAP_PROFILER_REPORT);
+        services.add(BootstrapProfiler.class, new BootstrapProfiler(profilerReport.isEmpty() ? null : new File(profilerReport)));
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(SLSBInvocationInjectionPoint.class, new SLSBInvocationInjectionPoint());
@@ -344,6 +348,9 @@ public class WeldStartup {
             throw BootstrapLogger.LOG.managerNotInitialized();
         }
 
+        BootstrapProfiler profiler = getProfiler();
+        BootstrapProfiler.Measurement phase = profiler.startPhase("startInitialization");
+
         Set<BeanDeployment> physicalBeanDeploymentArchives = new HashSet<BeanDeployment>(getBeanDeployments());
 
         ExtensionBeanDeployer extensionBeanDeployer = new ExtensionBeanDeployer(deploymentManager, deployment, bdaMapping, contexts);
@@ -365,7 +372,9 @@ public class WeldStartup {
 
         // for each physical BDA transform its classes into AnnotatedType instances
         for (BeanDeployment beanDeployment : physicalBeanDeploymentArchives) {
+            BootstrapProfiler.Measurement measurement = profiler.startArchive("createClasses", beanDeployment);
             beanDeployment.createClasses();
+            measurement.stop();
         }
 
         // Re-Read the deployment structure, bdaMapping will be the physical
@@ -374,7 +383,9 @@ public class WeldStartup {
         deploymentVisitor.visit();
 
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            BootstrapProfiler.Measurement measurement = profiler.startArchive("createTypes", beanDeployment);
             beanDeployment.createTypes();
+            measurement.stop();
         }
 
         AfterTypeDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
@@ -382,17 +393,36 @@ public class WeldStartup {
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
             beanDeployment.createEnablement();
         }
+        phase.stop();
     }
 
 
     public void deployBeans() {
-        for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.createBeans(environment);
+        BootstrapProfiler profiler = getProfiler();
+        BootstrapProfiler.Measurement phase = profiler.startPhase("deployBeans");
+
+        // the phases which do not fire container lifecycle events are processed for all the bean deployments at once if possible
+        ConcurrentBeanDeployments concurrentDeployments = ConcurrentBeanDeployments.of(deploymentManager.getServices().get(ExecutorServices.class),
+                getBeanDeployments());
+        if (concurrentDeployments != null) {
+            concurrentDeployments.createBeans();
+        } else {
+            for (BeanDeployment deployment : getBeanDeployments()) {
+                deployment.createBeans(environment);
+            }
         }
         // we must use separate loops, otherwise cyclic specialization would not work
-        for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.getBeanDeployer().processClassBeanAttributes();
-            deployment.getBeanDeployer().createProducersAndObservers();
+        if (concurrentDeployments != null) {
+            for (BeanDeployment deployment : getBeanDeployments()) {
+                deployment.getBeanDeployer().processClassBeanAttributes();
+            }
+            // producers and observers of a bean deployment do not depend on class bean attributes of other bean deployments
+            concurrentDeployments.createProducersAndObservers();
+        } else {
+            for (BeanDeployment deployment : getBeanDeployments()) {
+                deployment.getBeanDeployer().processClassBeanAttributes();
+                deployment.getBeanDeployer().createProducersAndObservers();
+            }
         }
         for (BeanDeployment deployment : getBeanDeployments()) {
             deployment.getBeanDeployer().processProducerAttributes();
@@ -405,7 +435,9 @@ public class WeldStartup {
 
         // TODO keep a list of new bdas, add them all in, and deploy beans for them, then merge into existing
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            BootstrapProfiler.Measurement measurement = profiler.startArchive("deployBeans", beanDeployment);
             beanDeployment.deployBeans(environment);
+            measurement.stop();
         }
 
         getContainer().setState(ContainerState.DISCOVERED);
@@ -423,27 +455,42 @@ public class WeldStartup {
         // outside the physical structure
         deploymentVisitor.visit();
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
-            beanDeployment.afterBeanDiscovery(environment);
+        // the deployment structure may have changed
+        concurrentDeployments = ConcurrentBeanDeployments.of(deploymentManager.getServices().get(ExecutorServices.class), getBeanDeployments());
+        if (concurrentDeployments != null) {
+            concurrentDeployments.afterBeanDiscovery();
+        } else {
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
+                beanDeployment.afterBeanDiscovery(environment);
+            }
         }
         getContainer().putBeanDeployments(bdaMapping);
         getContainer().setState(ContainerState.DEPLOYED);
+        phase.stop();
     }
 
     public void validateBeans() {
+        BootstrapProfiler profiler = getProfiler();
+        BootstrapProfiler.Measurement phase = profiler.startPhase("validateBeans");
         BootstrapLogger.LOG.validatingBeans();
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            BootstrapProfiler.Measurement measurement = profiler.startArchive("validateBeans", beanDeployment);
             BeanManagerImpl beanManager = beanDeployment.getBeanManager();
             beanManager.getBeanResolver().clear();
+            beanManager.getNameBasedResolver().clear();
             deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
             beanManager.getServices().get(InjectionTargetService.class).validate();
+            measurement.stop();
         }
         getContainer().setState(ContainerState.VALIDATED);
         AfterDeploymentValidationImpl.fire(deploymentManager);
+        phase.stop();
     }
 
     public void endInitialization() {
+        BootstrapProfiler profiler = getProfiler();
+        BootstrapProfiler.Measurement phase = profiler.startPhase("endInitialization");
 
         // Build a special index of bean identifiers
         deploymentManager.getServices().get(BeanIdentifierIndex.class).build(getBeansForBeanIdentifierIndex());
@@ -485,6 +532,8 @@ public class WeldStartup {
         }
 
         getContainer().setState(ContainerState.INITIALIZED);
+        phase.stop();
+        profiler.writeReport(contextId);
     }
 
     private void flushCaches() {
@@ -513,6 +562,10 @@ public class WeldStartup {
         return Container.instance(contextId);
     }
 
+    private BootstrapProfiler getProfiler() {
+        return deploymentManager.getServices().get(BootstrapProfiler.class);
+    }
+
     protected Collection<ContextHolder<? extends Context>> createContexts(ServiceRegistry services) {
         List<ContextHolder<? extends Context>> contexts = new ArrayList<ContextHolder<? extends Context>>();
 
@@ -533,9 +586,10 @@ public class WeldStartup {
 
         if (Reflections.isClassLoadable(ServletApiAbstraction.SERVLET_CONTEXT_CLASS_NAME, WeldClassLoaderResourceLoader.INSTANCE)) {
             // Register the Http contexts if not in
-            contexts.add(new ContextHolder<HttpSessionContext>(new HttpSessionContextImpl(contextId, beanIdentifierIndex), HttpSessionContext.class, HttpLiteral.INSTANCE));
-            contexts.add(new ContextHolder<HttpSessionDestructionContext>(new HttpSessionDestructionContext(contextId, beanIdentifierIndex), HttpSessionDestructionContext.class, HttpLiteral.INSTANCE));
-            contexts.add(new ContextHolder<HttpConversationContext>(new LazyHttpConversationContextImpl(contextId, beanIdentifierIndex), HttpConversationContext.class, HttpLiteral.INSTANCE));
+            boolean dirtyTracking = services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.SESSION_DIRTY_TRACKING);
+            contexts.add(new ContextHolder<HttpSessionContext>(new HttpSessionContextImpl(contextId, beanIdentifierIndex, dirtyTracking), HttpSessionContext.class, HttpLiteral.INSTANCE));
+            contexts.add(new ContextHolder<HttpSessionDestructionContext>(new HttpSessionDestructionContext(contextId, beanIdentifierIndex, dirtyTracking), HttpSessionDestructionContext.class, HttpLiteral.INSTANCE));
+            contexts.add(new ContextHolder<HttpConversationContext>(new LazyHttpConversationContextImpl(contextId, beanIdentifierIndex, dirtyTracking), HttpConversationContext.class, HttpLiteral.INSTANCE));
             contexts.add(new ContextHolder<HttpRequestContext>(new HttpRequestContextImpl(contextId), HttpRequestContext.class, HttpLiteral.INSTANCE));
         }
 
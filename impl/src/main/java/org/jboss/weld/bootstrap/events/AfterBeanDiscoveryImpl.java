@@ -41,6 +41,7 @@ import org.jboss.weld.bean.attributes.ExternalBeanAttributesFactory;
 import org.jboss.weld.bootstrap.BeanDeploymentArchiveMapping;
 import org.jboss.weld.bootstrap.ContextHolder;
 import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.event.BatchObserverMethod;
 import org.jboss.weld.experimental.util.ForwardingExperimentalObserverMethod;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.logging.ContextLogger;
@@ -156,7 +157,12 @@ public class AfterBeanDiscoveryImpl extends AbstractBeanDiscoveryEvent implement
         checkWithinObserverNotification();
         Preconditions.checkArgumentNotNull(observerMethod, "observerMethod");
         validateObserverMethod(observerMethod, getBeanManager(), null);
-        additionalObservers.add(new ForwardingExperimentalObserverMethod<>(observerMethod));
+        if (observerMethod instanceof BatchObserverMethod<?>) {
+            // do not hide the batch support, a batch observer method is an experimental observer method already
+            additionalObservers.add(observerMethod);
+        } else {
+            additionalObservers.add(new ForwardingExperimentalObserverMethod<>(observerMethod));
+        }
     }
 
     @Override
@@ -67,7 +67,7 @@ public enum ConfigurationKey {
     EXECUTOR_THREAD_POOL_DEBUG("org.jboss.weld.executor.threadPoolDebug", false),
 
     /**
-     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD.
+     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, FORK_JOIN, NONE, SINGLE_THREAD.
      */
     EXECUTOR_THREAD_POOL_TYPE("org.jboss.weld.executor.threadPoolType", ""),
 
@@ -91,6 +91,12 @@ public enum ConfigurationKey {
      */
     PROXY_DUMP("org.jboss.weld.proxy.dump", ""),
 
+    /**
+     * A directory used to persist the generated proxy classes and subclasses. A proxy class stored in the directory is loaded instead of
+     * being generated if the signature hash of the proxy matches. The directory may be populated ahead of time to reduce the boot time.
+     */
+    PROXY_CACHE("org.jboss.weld.proxy.cache", ""),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable
      * JVM APIs.
@@ -108,6 +114,46 @@ public enum ConfigurationKey {
      */
     INJECTABLE_REFERENCE_OPTIMIZATION("org.jboss.weld.injection.injectableReferenceOptimization", false),
 
+    /**
+     * If set to true, {@link java.lang.invoke.MethodHandle}s are created once per injection point and used to inject fields and invoke initializer,
+     * producer, disposer and observer methods instead of the reflection API. Disabled by default.
+     */
+    INJECTION_METHOD_HANDLES("org.jboss.weld.injection.methodHandles", false),
+
+    /**
+     * If set to true, interceptor methods are bound to the interceptor instances as {@link java.lang.invoke.MethodHandle}s once per intercepted
+     * instance and invoked through these handles instead of the reflection API. Disabled by default.
+     */
+    INTERCEPTOR_METHOD_HANDLES("org.jboss.weld.interceptor.methodHandles", false),
+
+    /**
+     * If set to true, the contextual instances of session scoped beans are fetched from the HTTP session lazily and only the instances used during a
+     * request are set as session attributes again at the end of the request. This allows the servlet container to only replicate the beans which were
+     * actually used. Disabled by default.
+     */
+    SESSION_DIRTY_TRACKING("org.jboss.weld.context.session.dirtyTracking", false),
+
+    /**
+     * If set to true, the serializable wrappers of beans and client proxies store the position of the bean identifier in the
+     * {@link org.jboss.weld.serialization.BeanIdentifierIndex} together with the hash of the index instead of the bean identifier itself. A serialized
+     * wrapper can only be deserialized by a container with the same deployment. Disabled by default.
+     */
+    COMPACT_SERIALIZATION("org.jboss.weld.serialization.compact", false),
+
+    /**
+     * The interval in milliseconds in which expired long-running conversations are destroyed in the background, even if there is no further request
+     * for the session they belong to. The conversation reaper is disabled by default - expired conversations are then only destroyed during subsequent
+     * requests for the same session or when the session is destroyed.
+     */
+    CONVERSATION_REAPER_INTERVAL("org.jboss.weld.context.conversation.reaperInterval", 0L),
+
+    /**
+     * The path of the JSON report of the bootstrap profiler. If set, the duration, CPU time, allocated memory and the number of loaded classes of the
+     * bootstrap phases, of the phases of individual bean archives and of extension observer methods are recorded. The report is written once the container
+     * is initialized. The profiler is disabled by default.
+     */
+    BOOTSTRAP_PROFILER_REPORT("org.jboss.weld.bootstrap.profilerReport", ""),
+
     ;
 
     /**
@@ -79,6 +79,8 @@ public class WeldConfiguration implements Service {
 
     private final File proxyDumpFilePath;
 
+    private final File proxyCacheFilePath;
+
     /**
      *
      * @param bootstrapConfiguration
@@ -87,7 +89,8 @@ public class WeldConfiguration implements Service {
     public WeldConfiguration(BootstrapConfiguration bootstrapConfiguration, Deployment deployment) {
         Preconditions.checkArgumentNotNull(deployment, "deployment");
         this.properties = init(bootstrapConfiguration, deployment);
-        this.proxyDumpFilePath = initProxyDumpFilePath();
+        this.proxyDumpFilePath = initDirectory(ConfigurationKey.PROXY_DUMP);
+        this.proxyCacheFilePath = initDirectory(ConfigurationKey.PROXY_CACHE);
         ConfigurationLogger.LOG.configurationInitialized(properties);
     }
 
@@ -140,6 +143,15 @@ public class WeldConfiguration implements Service {
         return proxyDumpFilePath;
     }
 
+    /**
+     *
+     * @return the path or <code>null</code> if the generated proxy classes should not be cached
+     * @see ConfigurationKey#PROXY_CACHE
+     */
+    public File getProxyCacheFilePath() {
+        return proxyCacheFilePath;
+    }
+
     @Override
     public void cleanup() {
         if (properties != null) {
@@ -214,10 +226,10 @@ public class WeldConfiguration implements Service {
         return properties;
     }
 
-    private File initProxyDumpFilePath() {
-        String dumpPath = getStringProperty(ConfigurationKey.PROXY_DUMP);
-        if (!dumpPath.isEmpty()) {
-            File tmp = new File(dumpPath);
+    private File initDirectory(ConfigurationKey key) {
+        String path = getStringProperty(key);
+        if (!path.isEmpty()) {
+            File tmp = new File(path);
             if (!tmp.isDirectory() && !tmp.mkdirs()) {
                 BeanLogger.LOG.directoryCannotBeCreated(tmp.toString());
                 return null;
@@ -159,6 +159,7 @@ public abstract class AbstractContext implements AlterableContext {
         if (beanStore == null) {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
         }
+        RequestScopedCache.invalidate();
         for (BeanIdentifier id : beanStore) {
             destroyContextualInstance(getContextualInstance(id));
         }
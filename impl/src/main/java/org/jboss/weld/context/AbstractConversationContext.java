@@ -27,26 +27,30 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.enterprise.context.ConversationScoped;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.beanstore.BoundBeanStore;
 import org.jboss.weld.context.beanstore.ConversationNamingScheme;
 import org.jboss.weld.context.beanstore.NamingScheme;
+import org.jboss.weld.context.cache.RequestScopedCache;
 import org.jboss.weld.context.conversation.ConversationIdGenerator;
 import org.jboss.weld.context.conversation.ConversationImpl;
 import org.jboss.weld.literal.DestroyedLiteral;
 import org.jboss.weld.logging.ConversationLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resources.spi.ScheduledExecutorServiceFactory;
 import org.jboss.weld.serialization.BeanIdentifierIndex;
 
 
@@ -63,6 +67,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private static final String CURRENT_CONVERSATION_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".currentConversation";
     public static final String CONVERSATIONS_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".conversations";
+    private static final String REAPER_SESSION_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".reaperSession";
 
     private static final long DEFAULT_TIMEOUT = 10 * 60 * 1000L;
     private static final long CONCURRENT_ACCESS_TIMEOUT = 1000L;
@@ -78,6 +83,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private final BeanIdentifierIndex beanIdentifierIndex;
 
+    // null if expired conversations are only destroyed during requests
+    private final ConversationReaper<S> reaper;
+    private final AtomicLong reapedConversations;
+
     public AbstractConversationContext(String contextId, BeanIdentifierIndex beanIdentifierIndex) {
         super(contextId, true);
         this.parameterName = new AtomicReference<String>(PARAMETER_NAME);
@@ -86,6 +95,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.associated = new ThreadLocal<R>();
         this.manager = Container.instance(contextId).deploymentManager();
         this.beanIdentifierIndex = beanIdentifierIndex;
+        ServiceRegistry services = Container.instance(contextId).services();
+        long reaperInterval = services.get(WeldConfiguration.class).getLongProperty(ConfigurationKey.CONVERSATION_REAPER_INTERVAL);
+        if (reaperInterval > 0 && services.contains(ScheduledExecutorServiceFactory.class)) {
+            this.reaper = new ConversationReaper<S>(this, services.get(ScheduledExecutorServiceFactory.class).get(), reaperInterval);
+        } else {
+            this.reaper = null;
+        }
+        this.reapedConversations = new AtomicLong();
     }
 
     @Override
@@ -142,12 +159,22 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 setRequestAttribute(request, CONVERSATION_ID_GENERATOR_ATTRIBUTE_NAME, getSessionAttribute(request, CONVERSATION_ID_GENERATOR_ATTRIBUTE_NAME, true));
             }
 
-            if (getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false) == null) {
-                Map<String, ManagedConversation> conversations = Collections.synchronizedMap(new HashMap<String, ManagedConversation>());
+            Object sessionConversations = getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false);
+            if (sessionConversations == null) {
+                ConcurrentMap<String, ManagedConversation> conversations = new ConcurrentHashMap<String, ManagedConversation>();
+                setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversations);
+                setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversations, false);
+            } else if (!(sessionConversations instanceof ConcurrentMap<?, ?>) && sessionConversations instanceof Map<?, ?>) {
+                // a session serialized by a previous version holds a synchronized map
+                Map<String, ManagedConversation> legacyConversations = cast(sessionConversations);
+                ConcurrentMap<String, ManagedConversation> conversations;
+                synchronized (legacyConversations) {
+                    conversations = new ConcurrentHashMap<String, ManagedConversation>(legacyConversations);
+                }
                 setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversations);
                 setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversations, false);
             } else {
-                setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, true));
+                setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, sessionConversations);
             }
             return true;
     }
@@ -222,6 +249,8 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             super.setActive(true);
         } else {
             ConversationLogger.LOG.contextAlreadyActive(getRequest());
+            // the context may be associated with a different conversation now
+            RequestScopedCache.invalidate();
         }
         initialize(cid);
     }
@@ -269,7 +298,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
             try {
                 if (getCurrentConversation().isTransient() && getRequestAttribute(getRequest(), ConversationNamingScheme.PARAMETER_NAME) != null) {
-                    // WELD-1746 Don't destroy ended conversations - these must be destroyed in a synchronized block - see also cleanUpConversationMap()
+                    // WELD-1746 Don't destroy ended conversations - these are destroyed once removed from the conversation map - see also cleanUpConversationMap()
                     destroy();
                 } else {
                     // Update the conversation timestamp
@@ -287,6 +316,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
                         getBeanStore().attach();
                         getConversationMap().put(getCurrentConversation().getId(), getCurrentConversation());
+                        registerWithReaper(getCurrentConversation());
                     }
                 }
             } finally {
@@ -298,6 +328,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 cleanUpConversationMap();
                 // deactivate the context
                 super.setActive(false);
+                RequestScopedCache.invalidate();
             }
         } else {
             throw ConversationLogger.LOG.contextNotActive();
@@ -306,18 +337,94 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private void cleanUpConversationMap() {
         Map<String, ManagedConversation> conversations = getConversationMap();
-        synchronized (conversations) {
-            Iterator<Entry<String, ManagedConversation>> entryIterator = conversations.entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                Entry<String, ManagedConversation> entry = entryIterator.next();
-                if (entry.getValue().isTransient()) {
-                    destroyConversation(getSessionFromRequest(getRequest(), false), entry.getKey());
-                    entryIterator.remove();
+        for (Entry<String, ManagedConversation> entry : conversations.entrySet()) {
+            // only the request which removes the conversation from the map destroys it
+            if (entry.getValue().isTransient() && conversations.remove(entry.getKey(), entry.getValue())) {
+                destroyConversation(getSessionFromRequest(getRequest(), false), entry.getKey());
+            }
+        }
+    }
+
+    private void registerWithReaper(ManagedConversation conversation) {
+        if (reaper != null) {
+            S session = getSessionFromRequest(getRequest(), false);
+            if (session != null) {
+                // the session object may be a facade that only lives as long as the request, the reference lives as long as the session
+                Object attribute = getSessionAttributeFromSession(session, REAPER_SESSION_ATTRIBUTE_NAME);
+                ConversationReaper.SessionReference<S> reference;
+                if (attribute instanceof ConversationReaper.SessionReference<?>) {
+                    reference = cast(attribute);
+                    reference.set(session);
+                } else {
+                    reference = new ConversationReaper.SessionReference<S>(session);
+                    setSessionAttribute(getRequest(), REAPER_SESSION_ATTRIBUTE_NAME, reference, false);
                 }
+                reaper.register(reference, conversation.getId(), conversation.getLastUsed() + conversation.getTimeout());
             }
         }
     }
 
+    /**
+     * Destroys the given conversation if it is expired. The context is activated on the current thread for the duration of the call
+     * and cleaned up afterwards. This method is called by the {@link ConversationReaper}, outside of any request.
+     *
+     * @param session the session the conversation belongs to
+     * @param cid the conversation id
+     * @return the time at which the conversation should be checked again or -1 if it does not need to be checked anymore
+     */
+    long reapConversation(S session, String cid) {
+        setActive(true);
+        try {
+            Object attribute = getSessionAttributeFromSession(session, CONVERSATIONS_ATTRIBUTE_NAME);
+            if (!(attribute instanceof Map<?, ?>)) {
+                return -1;
+            }
+            Map<String, ManagedConversation> conversations = cast(attribute);
+            ManagedConversation conversation = conversations.get(cid);
+            if (conversation == null || conversation.isTransient()) {
+                // ended conversations are destroyed at the end of the next request
+                return -1;
+            }
+            if (!isExpired(conversation)) {
+                return conversation.getLastUsed() + conversation.getTimeout();
+            }
+            if (!conversation.lock(0)) {
+                // the conversation is being used by a request at the moment
+                return System.currentTimeMillis() + conversation.getTimeout();
+            }
+            try {
+                // the conversation may have been used before the lock was acquired
+                if (!isExpired(conversation)) {
+                    return conversation.getLastUsed() + conversation.getTimeout();
+                }
+                if (!conversations.remove(cid, conversation)) {
+                    // the conversation was removed concurrently
+                    return -1;
+                }
+                // WELD-1690 a request waiting for the lock must not restore the conversation
+                conversation.end();
+                destroyConversation(session, cid);
+            } finally {
+                conversation.unlock();
+            }
+            reapedConversations.incrementAndGet();
+            ConversationLogger.LOG.conversationReaped(cid);
+            return -1;
+        } finally {
+            // the bean store belongs to the session, it must not be cleared
+            setBeanStore(null);
+            cleanup();
+        }
+    }
+
+    /**
+     * @return the number of expired conversations destroyed outside of any request since the context was created
+     * @see org.jboss.weld.config.ConfigurationKey#CONVERSATION_REAPER_INTERVAL
+     */
+    public long getReapedConversationCount() {
+        return reapedConversations.get();
+    }
+
     public void conversationPromotedToLongRunning(ConversationImpl conversation) {
         getConversationMap().put(conversation.getId(), conversation);
     }
@@ -325,17 +432,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     @Override
     public void invalidate() {
         ManagedConversation currentConversation = getCurrentConversation();
-        Map<String, ManagedConversation> conversations = getConversationMap();
-        synchronized (conversations) {
-            for (Entry<String, ManagedConversation> stringManagedConversationEntry : conversations.entrySet()) {
-                ManagedConversation conversation = stringManagedConversationEntry.getValue();
-                if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)) {
-                    // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
-                    if (!conversation.lock(0)) {
-                        ConversationLogger.LOG.endLockedConversation(conversation.getId());
-                    }
-                    conversation.end();
+        for (ManagedConversation conversation : getConversationMap().values()) {
+            if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)) {
+                // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
+                if (!conversation.lock(0)) {
+                    ConversationLogger.LOG.endLockedConversation(conversation.getId());
                 }
+                conversation.end();
             }
         }
     }
@@ -350,6 +453,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
 
         try {
+            if (reaper != null) {
+                Object reference = getSessionAttributeFromSession(session, REAPER_SESSION_ATTRIBUTE_NAME);
+                if (reference instanceof ConversationReaper.SessionReference<?>) {
+                    // the reaper must not touch the destroyed session anymore
+                    ((ConversationReaper.SessionReference<?>) reference).clear();
+                }
+            }
             if (getSessionAttributeFromSession(session, CONVERSATIONS_ATTRIBUTE_NAME) instanceof Map<?, ?>) {
                 // if there are conversations to destroy
                 Map<String, ManagedConversation> conversations = cast(getSessionAttributeFromSession(session, CONVERSATIONS_ATTRIBUTE_NAME));
@@ -418,16 +528,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     @Override
     public ManagedConversation getConversation(String id) {
-        return getConversationMap().get(id);
+        // the concurrent map does not support null keys
+        return id != null ? getConversationMap().get(id) : null;
     }
 
     @Override
     public Collection<ManagedConversation> getConversations() {
         // Don't return the map view to avoid concurrency issues
-        Map<String, ManagedConversation> conversations = getConversationMap();
-        synchronized (conversations) {
-            return new HashSet<ManagedConversation>(conversations.values());
-        }
+        return new HashSet<ManagedConversation>(getConversationMap().values());
     }
 
     private void checkIsAssociated() {
@@ -2,6 +2,8 @@ package org.jboss.weld.context;
 
 import static java.lang.Boolean.FALSE;
 
+import org.jboss.weld.context.cache.RequestScopedCache;
+
 public abstract class AbstractManagedContext extends AbstractContext implements ManagedContext {
 
     private final ThreadLocal<Boolean> active;
@@ -41,6 +43,8 @@ public abstract class AbstractManagedContext extends AbstractContext implements
             destroy();
         }
         active.remove();
+        // instances cached by client proxies must not be used once the context is not active anymore
+        RequestScopedCache.invalidate();
     }
 
     @Override
@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.weld.logging.ConversationLogger;
+
+/**
+ * Periodically destroys long-running conversations which expired while there was no request for the session they belong to.
+ *
+ * <p>
+ * The reaper keeps a priority queue of the times at which the tracked conversations expire at the earliest. A conversation is registered
+ * once, when it becomes long-running. The queue is not updated when the conversation is used again - instead, when the expiration time
+ * is reached, the conversation is checked and either destroyed or scheduled again for its current expiration time.
+ * </p>
+ *
+ * <p>
+ * The session object passed to {@link #register(SessionReference, String, long)} may be a facade which is only used for a single request
+ * and may be garbage collected long before the session itself. The reaper therefore only weakly references a {@link SessionReference}
+ * which is stored as a session attribute, so that it lives exactly as long as the session. The session is not kept alive by the reaper.
+ * The conversations of a session are not tracked anymore if the session is destroyed or if it is invalidated, i.e. accessing it results
+ * in an {@link IllegalStateException}.
+ * </p>
+ * @see org.jboss.weld.config.ConfigurationKey#CONVERSATION_REAPER_INTERVAL
+ */
+final class ConversationReaper<S> implements Runnable {
+
+    private final AbstractConversationContext<?, S> context;
+    private final ScheduledExecutorService executor;
+    private final long interval;
+    private final PriorityQueue<Expiration<S>> expirations;
+    private final AtomicBoolean started;
+
+    ConversationReaper(AbstractConversationContext<?, S> context, ScheduledExecutorService executor, long interval) {
+        this.context = context;
+        this.executor = executor;
+        this.interval = interval;
+        this.expirations = new PriorityQueue<Expiration<S>>();
+        this.started = new AtomicBoolean(false);
+    }
+
+    /**
+     * Starts tracking the given conversation. The reaper task is scheduled when the first conversation is registered.
+     *
+     * @param session the reference to the session the conversation belongs to, stored as an attribute of that session
+     * @param cid the conversation id
+     * @param expiresAt the time at which the conversation expires unless it is used again
+     */
+    void register(SessionReference<S> session, String cid, long expiresAt) {
+        synchronized (expirations) {
+            expirations.add(new Expiration<S>(session, cid, expiresAt));
+        }
+        if (started.compareAndSet(false, true)) {
+            executor.scheduleWithFixedDelay(this, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void run() {
+        for (Expiration<S> expiration : pollDue(System.currentTimeMillis())) {
+            SessionReference<S> reference = expiration.session.get();
+            S session = reference != null ? reference.get() : null;
+            if (session == null) {
+                // the session was destroyed or passivated
+                continue;
+            }
+            try {
+                long expiresAt = context.reapConversation(session, expiration.cid);
+                if (expiresAt > 0) {
+                    synchronized (expirations) {
+                        expirations.add(new Expiration<S>(reference, expiration.cid, expiresAt));
+                    }
+                }
+            } catch (IllegalStateException e) {
+                // the session was invalidated in the meantime, its conversations are destroyed together with the session
+                ConversationLogger.LOG.conversationReaperSessionInvalidated(expiration.cid, e);
+            } catch (Exception e) {
+                ConversationLogger.LOG.unableToReapConversation(expiration.cid, e);
+            }
+        }
+    }
+
+    private List<Expiration<S>> pollDue(long now) {
+        List<Expiration<S>> due = new ArrayList<Expiration<S>>();
+        synchronized (expirations) {
+            while (!expirations.isEmpty() && expirations.peek().expiresAt <= now) {
+                due.add(expirations.poll());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Holds the session object last used to register a conversation of a session. An instance is stored as a session attribute so that it
+     * is reachable as long as the session is. The session object is not serialized - a passivated or replicated session is not tracked until
+     * a conversation of the session is registered again.
+     */
+    static final class SessionReference<S> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient volatile S session;
+
+        SessionReference(S session) {
+            this.session = session;
+        }
+
+        S get() {
+            return session;
+        }
+
+        void set(S session) {
+            this.session = session;
+        }
+
+        void clear() {
+            this.session = null;
+        }
+    }
+
+    private static class Expiration<S> implements Comparable<Expiration<S>> {
+
+        private final WeakReference<SessionReference<S>> session;
+        private final String cid;
+        private final long expiresAt;
+
+        private Expiration(SessionReference<S> session, String cid, long expiresAt) {
+            this.session = new WeakReference<SessionReference<S>>(session);
+            this.cid = cid;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public int compareTo(Expiration<S> other) {
+            return Long.compare(expiresAt, other.expiresAt);
+        }
+    }
+}
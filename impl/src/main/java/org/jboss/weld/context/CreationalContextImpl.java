@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
@@ -38,6 +39,16 @@ import org.jboss.weld.util.reflection.Reflections;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
 /**
+ * The storage for dependent instances is only allocated once the first dependent instance is added. Most creational contexts never get
+ * any dependent instance. A dependent instance is stored in the creational context of the parent, if there is any. Otherwise, it is
+ * stored in the creational context itself.
+ *
+ * <p>
+ * The lists of dependent instances are synchronized lists, not lock-free ones. Dependent instances are also removed again, see
+ * {@link #destroyDependentInstance(Object)} and {@link #writeReplace()}, which an append-only list does not support, and a copy-on-write
+ * list would copy the whole list on every addition. The lists are rarely accessed by more than one thread, so the locks are uncontended.
+ * </p>
+ *
  * @author Pete Muir
  * @author Ales Justin
  * @author Jozef Hartinger
@@ -48,14 +59,24 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     private static final SerializationProxy SERIALIZATION_PROXY = new SerializationProxy();
 
+    @java.lang.SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, List> DEPENDENT_INSTANCES = AtomicReferenceFieldUpdater.newUpdater(
+            CreationalContextImpl.class, List.class, "dependentInstances");
+
+    @java.lang.SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, List> PARENT_DEPENDENT_INSTANCES = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, List.class, "parentDependentInstances");
+
     @SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private transient Map<Contextual<?>, Object> incompleteInstances;
     @SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    // allocated lazily, see getOrCreate()
+    private volatile List<ContextualInstance<?>> dependentInstances;
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    // only used if there is no parent creational context, allocated lazily
+    private volatile List<ContextualInstance<?>> parentDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -66,16 +87,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient List<AroundConstructCallback<T>> aroundConstructCallbacks;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
-    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances, CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -83,9 +101,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -96,11 +111,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -112,7 +127,24 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            parentCreationalContext.getOrCreate(DEPENDENT_INSTANCES).add(contextualInstance);
+        } else {
+            getOrCreate(PARENT_DEPENDENT_INSTANCES).add(contextualInstance);
+        }
+    }
+
+    @java.lang.SuppressWarnings("rawtypes")
+    private List<ContextualInstance<?>> getOrCreate(AtomicReferenceFieldUpdater<CreationalContextImpl, List> field) {
+        List<ContextualInstance<?>> instances = Reflections.cast(field.get(this));
+        if (instances == null) {
+            instances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+            if (!field.compareAndSet(this, null, instances)) {
+                // another thread allocated the list in the meantime
+                instances = Reflections.cast(field.get(this));
+            }
+        }
+        return instances;
     }
 
     public void release() {
@@ -121,11 +153,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        synchronized (dependentInstances) {
-            for (ContextualInstance<?> dependentInstance : dependentInstances) {
-                // do not destroy contextual again, since it's just being destroyed
-                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                    destroy(dependentInstance);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                    // do not destroy contextual again, since it's just being destroyed
+                    if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                        destroy(dependentInstance);
+                    }
                 }
             }
         }
@@ -151,39 +186,46 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return Collections.emptyList();
+        }
         return WeldCollections.immutableListView(dependentInstances);
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
-        synchronized (dependentInstances) {
-            for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
-                ContextualInstance<?> instance = iterator.next();
-                if (!(instance.getInstance() instanceof Serializable)) {
-                    /*
-                     * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
-                     *
-                     * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
-                     * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can safely
-                     * destroy the dependent instance now.
-                     *
-                     * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and the
-                     * bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to destroy
-                     * the dependent instance now.
-                     *
-                     * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of the
-                     * injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway since the
-                     * identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
-                     *
-                     * @see https://issues.jboss.org/browse/WELD-1076
-                     */
-                    destroy(instance);
-                    iterator.remove();
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
+                    ContextualInstance<?> instance = iterator.next();
+                    if (!(instance.getInstance() instanceof Serializable)) {
+                        /*
+                         * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
+                         *
+                         * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
+                         * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can safely
+                         * destroy the dependent instance now.
+                         *
+                         * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and the
+                         * bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to destroy
+                         * the dependent instance now.
+                         *
+                         * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of the
+                         * injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway since the
+                         * identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
+                         *
+                         * @see https://issues.jboss.org/browse/WELD-1076
+                         */
+                        destroy(instance);
+                        iterator.remove();
+                    }
                 }
             }
         }
         // Return a serialization proxy for an "empty" instance
-        if (parentCreationalContext == null && dependentInstances.isEmpty() && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
+        if (parentCreationalContext == null && isEmpty(dependentInstances) && isEmpty(parentDependentInstances)) {
             return SERIALIZATION_PROXY;
         }
         return this;
@@ -207,19 +249,26 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
-        synchronized (dependentInstances) {
-            for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
-                ContextualInstance<?> contextualInstance = iterator.next();
-                if (contextualInstance.getInstance().equals(instance)) {
-                    iterator.remove();
-                    destroy(contextualInstance);
-                    return true;
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
+                    ContextualInstance<?> contextualInstance = iterator.next();
+                    if (contextualInstance.getInstance().equals(instance)) {
+                        iterator.remove();
+                        destroy(contextualInstance);
+                        return true;
+                    }
                 }
             }
         }
         return false;
     }
 
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
     /**
      * @return the {@link Contextual} for which this {@link CreationalContext} is created.
      */
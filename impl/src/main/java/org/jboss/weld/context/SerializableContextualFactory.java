@@ -74,6 +74,8 @@ public class SerializableContextualFactory {
         private final C serializable;
         private final BeanIdentifier identifier;
         private final Integer identifierIndex;
+        // The hash of the index the identifierIndex was obtained from, null if serialized by an older version
+        private final Integer indexHash;
 
         private final String contextId;
 
@@ -89,6 +91,7 @@ public class SerializableContextualFactory {
                 this.serializable = contextual;
                 this.identifier = null;
                 this.identifierIndex = null;
+                this.indexHash = null;
             } else {
                 this.serializable = null;
                 BeanIdentifier beanIdentifier = getId(contextual, contextualStore);
@@ -96,9 +99,11 @@ public class SerializableContextualFactory {
                 Integer idx = beanIdentifierIndex.isBuilt() ? beanIdentifierIndex.getIndex(beanIdentifier) : null;
                 if (idx != null) {
                     this.identifierIndex = idx;
+                    this.indexHash = beanIdentifierIndex.getIndexHash();
                     this.identifier = null;
                 } else {
                     this.identifierIndex = null;
+                    this.indexHash = null;
                     this.identifier = beanIdentifier;
                 }
             }
@@ -135,7 +140,9 @@ public class SerializableContextualFactory {
             if (serializable != null) {
                 cached = serializable;
             } else if (identifierIndex != null) {
-                cached = getContextualStore().<C, I> getContextual(getBeanIdentifierIndex().getIdentifier(identifierIndex));
+                BeanIdentifier id = indexHash != null ? getBeanIdentifierIndex().getIdentifier(identifierIndex, indexHash) : getBeanIdentifierIndex()
+                        .getIdentifier(identifierIndex);
+                cached = getContextualStore().<C, I> getContextual(id);
             } else if (identifier != null) {
                 cached = getContextualStore().<C, I> getContextual(identifier);
             }
@@ -16,8 +16,12 @@
  */
 package org.jboss.weld.context.beanstore;
 
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.logging.ContextLogger;
@@ -33,6 +37,16 @@ import org.jboss.weld.serialization.spi.BeanIdentifier;
  * </p>
  * <p/>
  * <p>
+ * If dirty tracking is enabled, the attributes are not copied from the
+ * underlying store when the bean store is attached. Instead, each attribute
+ * is fetched when the contextual instance is looked up for the first time.
+ * The instances which were looked up are written to the underlying store
+ * again when the bean store is detached. Therefore, only the instances
+ * actually used while the bean store was attached are written to the
+ * underlying store.
+ * </p>
+ * <p/>
+ * <p>
  * This construct is not thread safe.
  * </p>
  *
@@ -44,20 +58,34 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     private final HashMapBeanStore beanStore;
     private final NamingScheme namingScheme;
+    private final boolean dirtyTracking;
 
     private boolean attached;
+    // the ids of the instances looked up while attached, only used if dirty tracking is enabled
+    private Set<BeanIdentifier> accessed;
+    // true if all the attributes were copied from the underlying store
+    private boolean fetched;
 
     public AttributeBeanStore(NamingScheme namingScheme) {
+        this(namingScheme, false);
+    }
+
+    public AttributeBeanStore(NamingScheme namingScheme, boolean dirtyTracking) {
         this.namingScheme = namingScheme;
         this.beanStore = new HashMapBeanStore();
+        this.dirtyTracking = dirtyTracking;
     }
 
     /**
      * Detach the bean store, causing updates to longer be written through to the
-     * underlying store.
+     * underlying store. If dirty tracking is enabled, the instances looked up
+     * while the bean store was attached are written to the underlying store.
      */
     public boolean detach() {
         if (attached) {
+            if (dirtyTracking) {
+                writeAccessed();
+            }
             attached = false;
             ContextLogger.LOG.beanStoreDetached(this);
             return true;
@@ -88,17 +116,11 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
                 setAttribute(prefixedId, instance);
             }
 
-            /*
-            * Additionally copy anything not in the bean store but in the session
-            * into the bean store
-            */
-            for (String prefixedId : getPrefixedAttributeNames()) {
-                BeanIdentifier id = getNamingScheme().deprefix(prefixedId);
-                if (!beanStore.contains(id)) {
-                    ContextualInstance<?> instance = (ContextualInstance<?>) getAttribute(prefixedId);
-                    beanStore.put(id, instance);
-                    ContextLogger.LOG.addingDetachedContextualUnderId(instance, id);
-                }
+            if (dirtyTracking) {
+                // attributes are fetched lazily so that the underlying store does not consider all of them accessed
+                fetched = false;
+            } else {
+                fetchAll();
             }
             return true;
         } else {
@@ -106,6 +128,42 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
         }
     }
 
+    /**
+     * Copy anything not in the bean store but in the underlying store into the
+     * bean store
+     */
+    private void fetchAll() {
+        for (String prefixedId : getPrefixedAttributeNames()) {
+            BeanIdentifier id = getNamingScheme().deprefix(prefixedId);
+            if (!beanStore.contains(id)) {
+                ContextualInstance<?> instance = (ContextualInstance<?>) getAttribute(prefixedId);
+                beanStore.put(id, instance);
+                ContextLogger.LOG.addingDetachedContextualUnderId(instance, id);
+            }
+        }
+        fetched = true;
+    }
+
+    private void writeAccessed() {
+        if (accessed == null) {
+            return;
+        }
+        try {
+            for (BeanIdentifier id : accessed) {
+                ContextualInstance<?> instance = beanStore.get(id);
+                if (instance != null) {
+                    ContextLogger.LOG.updatingStoreWithContextualUnderId(instance, id);
+                    updateAttribute(namingScheme.prefix(id), instance);
+                }
+            }
+        } catch (IllegalStateException e) {
+            // the underlying store was invalidated in the meantime, e.g. HttpSession.invalidate() was called
+            ContextLogger.LOG.catchingDebug(e);
+        } finally {
+            accessed = null;
+        }
+    }
+
     public boolean isAttached() {
         return attached;
     }
@@ -113,10 +171,44 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     @Override
     public <T> ContextualInstance<T> get(BeanIdentifier id) {
         ContextualInstance<T> instance = beanStore.get(id);
+        if (dirtyTracking && isAttached()) {
+            if (instance == null) {
+                if (!fetched) {
+                    instance = fetch(id);
+                }
+            } else {
+                markAccessed(id);
+            }
+        }
         ContextLogger.LOG.contextualInstanceFound(id, instance, this);
         return instance;
     }
 
+    /**
+     * Gets the instance stored under the given id in the underlying store. If
+     * dirty tracking is enabled, the instance is also added to the bean store
+     * and written to the underlying store again when the bean store is
+     * detached.
+     *
+     * @param id The id of the instance
+     * @return The instance or null if the underlying store does not contain it
+     */
+    protected <T> ContextualInstance<T> fetch(BeanIdentifier id) {
+        ContextualInstance<T> instance = cast(getAttribute(namingScheme.prefix(id)));
+        if (instance != null && dirtyTracking && isAttached()) {
+            beanStore.put(id, instance);
+            markAccessed(id);
+        }
+        return instance;
+    }
+
+    private void markAccessed(BeanIdentifier id) {
+        if (accessed == null) {
+            accessed = new HashSet<BeanIdentifier>();
+        }
+        accessed.add(id);
+    }
+
     @Override
     public <T> void put(BeanIdentifier id, ContextualInstance<T> instance) {
         beanStore.put(id, instance); // moved due to WELD-892
@@ -129,8 +221,18 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        if (dirtyTracking && isAttached() && !fetched && !beanStore.contains(id)) {
+            // the instance may not have been fetched yet
+            ContextualInstance<?> stored = cast(getAttribute(namingScheme.prefix(id)));
+            if (stored != null) {
+                beanStore.put(id, stored);
+            }
+        }
         ContextualInstance<T> instance = beanStore.remove(id);
         if (instance != null) {
+            if (accessed != null) {
+                accessed.remove(id);
+            }
             if (isAttached()) {
                 removeAttribute(namingScheme.prefix(id));
             }
@@ -162,6 +264,10 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     }
 
     public Iterator<BeanIdentifier> iterator() {
+        if (dirtyTracking && isAttached() && !fetched) {
+            // e.g. the context is being destroyed - all the instances are needed
+            fetchAll();
+        }
         return beanStore.iterator();
     }
 
@@ -206,6 +312,18 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
      */
     protected abstract void setAttribute(String prefixedId, Object instance);
 
+    /**
+     * Sets an instance which was looked up while the bean store was attached
+     * under a key in the underlying storage again. Only used if dirty tracking
+     * is enabled.
+     *
+     * @param prefixedId The (prefixed) id of the attribute to set
+     * @param instance   The instance
+     */
+    protected void updateAttribute(String prefixedId, Object instance) {
+        setAttribute(prefixedId, instance);
+    }
+
     public LockedBean lock(final BeanIdentifier id) {
         LockStore lockStore = getLockStore();
         if(lockStore == null) {
@@ -18,8 +18,8 @@
 package org.jboss.weld.context.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -27,6 +27,11 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 /**
  * Helper class for bean store creation locking.
  *
+ * <p>
+ * There is no global monitor - the reference counted locks are held in a {@link ConcurrentMap} and the reference counts are only
+ * modified within atomic per-key map operations. Therefore, threads creating different beans never block each other.
+ * </p>
+ *
  * @author Stuart Douglas
  * @author Marko Luksa
  */
@@ -35,28 +40,44 @@ public class LockStore implements Serializable {
     private static final long serialVersionUID = -698649566870070414L;
 
     @SuppressWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if(locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
+        ReferenceCountedLock refLock = getLocks().compute(id, (key, value) -> {
+            if (value == null) {
+                return new ReferenceCountedLock(key);
             }
-        }
+            value.count++;
+            return value;
+        });
         refLock.lock.lock();
         return refLock;
     }
 
+    /**
+     * @return the number of beans which are locked or waited for at the moment
+     */
+    int size() {
+        return getLocks().size();
+    }
+
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // the lock store was deserialized
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    this.locks = locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
+                }
+            }
+        }
+        return locks;
+    }
+
     private class ReferenceCountedLock implements LockedBean {
         private final BeanIdentifier key;
+        // only accessed within atomic map operations
         int count = 1;
         final ReentrantLock lock = new ReentrantLock();
 
@@ -65,13 +86,8 @@ public class LockStore implements Serializable {
         }
 
         public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
-            }
+            lock.unlock();
+            getLocks().computeIfPresent(key, (id, value) -> (--value.count == 0) ? null : value);
         }
     }
 
@@ -1,7 +1,6 @@
 package org.jboss.weld.context.beanstore.http;
 
 import static java.util.Collections.emptyList;
-import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.util.Collection;
 import java.util.Enumeration;
@@ -40,6 +39,15 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
         super(namingScheme);
     }
 
+    /**
+     * @param namingScheme the naming scheme
+     * @param dirtyTracking if true, only the contextual instances used during the request are written to the session
+     * @see org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING
+     */
+    public AbstractSessionBeanStore(NamingScheme namingScheme, boolean dirtyTracking) {
+        super(namingScheme, dirtyTracking);
+    }
+
     protected Collection<String> getAttributeNames() {
         HttpSession session = getSession(false);
         if (session == null) {
@@ -71,12 +79,20 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
         }
     }
 
+    @Override
+    protected void updateAttribute(String key, Object instance) {
+        // never create a new session, the original one may have been invalidated during the request
+        HttpSession session = getSession(false);
+        if (session != null) {
+            session.setAttribute(key, instance);
+        }
+    }
+
     @Override
     public <T> ContextualInstance<T> get(BeanIdentifier id) {
         ContextualInstance<T> instance = super.get(id);
         if (instance == null && isAttached()) {
-            String prefixedId = getNamingScheme().prefix(id);
-            instance = cast(getAttribute(prefixedId));
+            instance = fetch(id);
         }
         return instance;
     }
@@ -31,7 +31,11 @@ public class EagerSessionBeanStore extends AbstractSessionBeanStore {
     private final HttpSession session;
 
     public EagerSessionBeanStore(NamingScheme namingScheme, HttpSession session) {
-        super(namingScheme);
+        this(namingScheme, session, false);
+    }
+
+    public EagerSessionBeanStore(NamingScheme namingScheme, HttpSession session, boolean dirtyTracking) {
+        super(namingScheme, dirtyTracking);
         this.session = session;
         ContextLogger.LOG.loadingBeanStoreMapFromSession(this, getSession(false));
     }
@@ -22,12 +22,15 @@ import java.util.List;
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
+ * <p>
+ * The cache is started and ended by the request contexts. Other contexts flush the cache whenever a cached contextual instance
+ * may no longer be valid - i.e. if a context is deactivated or destroyed.
  *
  * @author Stuart Douglas
  */
 public class RequestScopedCache {
 
-    private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
+    private static final ThreadLocal<Cache> CACHE = new ThreadLocal<Cache>();
 
     private RequestScopedCache() {
     }
@@ -36,55 +39,71 @@ public class RequestScopedCache {
         return CACHE.get() != null;
     }
 
-    private static void checkCacheForAdding(final List<RequestScopedItem> cache) {
+    private static void checkCacheForAdding(final Cache cache) {
         if (cache == null) {
             throw new IllegalStateException("Unable to add request scoped cache item when request cache is not active");
         }
     }
 
     public static void addItem(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Cache cache = CACHE.get();
         checkCacheForAdding(cache);
-        cache.add(item);
+        cache.items.add(item);
     }
 
     public static boolean addItemIfActive(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Cache cache = CACHE.get();
         if (cache != null) {
-            cache.add(item);
+            cache.items.add(item);
             return true;
         }
         return false;
     }
 
+    /**
+     * The given thread local is removed at the end of the request or when the cache is flushed.
+     */
     public static boolean addItemIfActive(final ThreadLocal<?> item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Cache cache = CACHE.get();
         if (cache != null) {
-            cache.add(new RequestScopedItem() {
-                public void invalidate() {
-                    item.remove();
-                }
-            });
+            cache.threadLocals.add(item);
             return true;
         }
         return false;
     }
 
+    /**
+     * Starts the cache for the current thread. If the cache is already active, e.g. if a request context is activated within another
+     * request, the cache is flushed and remains active until the matching {@link #endRequest()} of the outer request.
+     */
     public static void beginRequest() {
-        CACHE.set(new LinkedList<RequestScopedItem>());
+        final Cache cache = CACHE.get();
+        if (cache == null) {
+            CACHE.set(new Cache());
+        } else {
+            cache.nestingLevel++;
+            cache.flush();
+        }
     }
 
     /**
-     * ends the request and clears the cache. This can be called before the request is over,
-     * in which case the cache will be unavailable for the rest of the request.
+     * ends the request and clears the cache. If the matching {@link #beginRequest()} was nested within another request, the cache is only
+     * flushed and remains available for the rest of the outer request.
      */
     public static void endRequest() {
-        final List<RequestScopedItem> result = CACHE.get();
+        final Cache cache = CACHE.get();
+        if (cache == null) {
+            return;
+        }
+        if (cache.nestingLevel > 0) {
+            cache.nestingLevel--;
+            cache.flush();
+            return;
+        }
         CACHE.remove();
-        if (result != null) {
-            for (final RequestScopedItem item : result) {
-                item.invalidate();
-            }
+        cache.flush();
+        for (final RequestScopedItem item : cache.items) {
+            item.invalidate();
         }
     }
 
@@ -92,9 +111,27 @@ public class RequestScopedCache {
      * Flushes the bean cache. The cache remains available for the rest of the request.
      */
     public static void invalidate() {
-        if (isActive()) {
-            endRequest();
-            beginRequest();
+        final Cache cache = CACHE.get();
+        if (cache != null) {
+            cache.flush();
+        }
+    }
+
+    private static class Cache {
+
+        // items invalidated at the end of the outermost request, e.g. the interception stack which may be in use while the cache is flushed
+        private final List<RequestScopedItem> items = new LinkedList<RequestScopedItem>();
+
+        // the contextual instances cached by client proxies
+        private final List<ThreadLocal<?>> threadLocals = new LinkedList<ThreadLocal<?>>();
+
+        private int nestingLevel;
+
+        private void flush() {
+            for (ThreadLocal<?> threadLocal : threadLocals) {
+                threadLocal.remove();
+            }
+            threadLocals.clear();
         }
     }
 
@@ -16,8 +16,21 @@ public class HttpConversationContextImpl extends AbstractConversationContext<Htt
     // There is no need to store FQCN in a session key
     private static final String NAMING_SCHEME_PREFIX = "WELD_C";
 
+    private final boolean dirtyTracking;
+
     public HttpConversationContextImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex) {
+        this(contextId, beanIdentifierIndex, false);
+    }
+
+    /**
+     * @param contextId the container id
+     * @param beanIdentifierIndex the bean identifier index
+     * @param dirtyTracking if true, only the contextual instances used during a request are written to the session
+     * @see org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING
+     */
+    public HttpConversationContextImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex, boolean dirtyTracking) {
         super(contextId, beanIdentifierIndex);
+        this.dirtyTracking = dirtyTracking;
     }
 
     @Override
@@ -53,12 +66,12 @@ public class HttpConversationContextImpl extends AbstractConversationContext<Htt
 
     @Override
     protected BoundBeanStore createRequestBeanStore(NamingScheme namingScheme, HttpServletRequest request) {
-        return new LazySessionBeanStore(request, namingScheme);
+        return new LazySessionBeanStore(request, namingScheme, dirtyTracking);
     }
 
     @Override
     protected BoundBeanStore createSessionBeanStore(NamingScheme namingScheme, HttpSession session) {
-        return new EagerSessionBeanStore(namingScheme, session);
+        return new EagerSessionBeanStore(namingScheme, session, dirtyTracking);
     }
 
     @Override
@@ -23,11 +23,23 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
 
     private final NamingScheme namingScheme;
     private final String contextId;
+    private final boolean dirtyTracking;
 
     public HttpSessionContextImpl(String contextId, BeanIdentifierIndex index) {
+        this(contextId, index, false);
+    }
+
+    /**
+     * @param contextId the container id
+     * @param index the bean identifier index
+     * @param dirtyTracking if true, only the contextual instances used during a request are written to the session
+     * @see org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING
+     */
+    public HttpSessionContextImpl(String contextId, BeanIdentifierIndex index, boolean dirtyTracking) {
         super(contextId, true);
         this.namingScheme = new SimpleBeanIdentifierIndexNamingScheme(NAMING_SCHEME_PREFIX, index);
         this.contextId = contextId;
+        this.dirtyTracking = dirtyTracking;
     }
 
     public boolean associate(HttpServletRequest request) {
@@ -36,7 +48,7 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
             ContextLogger.LOG.beanStoreLeakDuringAssociation(this.getClass().getName(), request);
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        setBeanStore(new LazySessionBeanStore(request, namingScheme));
+        setBeanStore(new LazySessionBeanStore(request, namingScheme, dirtyTracking));
         return true;
     }
 
@@ -44,7 +56,7 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
         if (getBeanStore() == null) {
             try {
                 HttpConversationContext conversationContext = getConversationContext();
-                setBeanStore(new EagerSessionBeanStore(namingScheme, session));
+                setBeanStore(new EagerSessionBeanStore(namingScheme, session, dirtyTracking));
                 activate();
                 invalidate();
                 conversationContext.destroy(session);
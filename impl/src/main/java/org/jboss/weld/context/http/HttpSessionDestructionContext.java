@@ -38,17 +38,29 @@ import org.jboss.weld.serialization.BeanIdentifierIndex;
 public class HttpSessionDestructionContext extends AbstractBoundContext<HttpSession> {
 
     private final NamingScheme namingScheme;
+    private final boolean dirtyTracking;
 
     public HttpSessionDestructionContext(String contextId, BeanIdentifierIndex index) {
+        this(contextId, index, false);
+    }
+
+    /**
+     * @param contextId the container id
+     * @param index the bean identifier index
+     * @param dirtyTracking if true, only the contextual instances used during a request are written to the session
+     * @see org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING
+     */
+    public HttpSessionDestructionContext(String contextId, BeanIdentifierIndex index, boolean dirtyTracking) {
         super(contextId, true);
         this.namingScheme = new SimpleBeanIdentifierIndexNamingScheme(HttpSessionContextImpl.NAMING_SCHEME_PREFIX, index);
+        this.dirtyTracking = dirtyTracking;
     }
 
     @Override
     public boolean associate(HttpSession session) {
         if (getBeanStore() == null) {
             // Don't reassociate
-            setBeanStore(new EagerSessionBeanStore(namingScheme, session));
+            setBeanStore(new EagerSessionBeanStore(namingScheme, session, dirtyTracking));
             return true;
         } else {
             return false;
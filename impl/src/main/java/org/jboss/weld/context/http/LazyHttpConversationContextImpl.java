@@ -46,7 +46,17 @@ public class LazyHttpConversationContextImpl extends HttpConversationContextImpl
     private final ThreadLocal<Object> initialized;
 
     public LazyHttpConversationContextImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex) {
-        super(contextId, beanIdentifierIndex);
+        this(contextId, beanIdentifierIndex, false);
+    }
+
+    /**
+     * @param contextId the container id
+     * @param beanIdentifierIndex the bean identifier index
+     * @param dirtyTracking if true, only the contextual instances used during a request are written to the session
+     * @see org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING
+     */
+    public LazyHttpConversationContextImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex, boolean dirtyTracking) {
+        super(contextId, beanIdentifierIndex, dirtyTracking);
         this.initialized = new ThreadLocal<Object>();
         this.initializationCallback = new ThreadLocal<>();
     }
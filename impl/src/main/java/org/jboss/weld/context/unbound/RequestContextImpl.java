@@ -3,6 +3,7 @@ package org.jboss.weld.context.unbound;
 import org.jboss.weld.context.AbstractUnboundContext;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.beanstore.HashMapBeanStore;
+import org.jboss.weld.context.cache.RequestScopedCache;
 
 import javax.enterprise.context.RequestScoped;
 import java.lang.annotation.Annotation;
@@ -21,14 +22,19 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
         // Attach bean store (this context is unbound, so this can simply be thread-scoped
         setBeanStore(new HashMapBeanStore());
         super.activate();
+        RequestScopedCache.beginRequest();
     }
 
     @Override
     public void deactivate() {
-        super.deactivate();
-        // Detach the bean store
-        setBeanStore(null);
-        cleanup();
+        try {
+            RequestScopedCache.endRequest();
+        } finally {
+            super.deactivate();
+            // Detach the bean store
+            setBeanStore(null);
+            cleanup();
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.util.List;
+
+import org.jboss.weld.experimental.ExperimentalObserverMethod;
+
+/**
+ * An observer method which is able to process a batch of events at once. An extension may register such an observer method using
+ * {@link javax.enterprise.inject.spi.AfterBeanDiscovery#addObserverMethod(javax.enterprise.inject.spi.ObserverMethod)}.
+ *
+ * <p>
+ * If a batch of events is fired using {@link EventImpl#fireBatch(Iterable)} or {@link FastEvent#fireBatch(List)}, a
+ * batch observer method is notified once with all the events instead of being notified of each event separately. If a transaction is
+ * active, transactional observer methods are still notified of each event separately once the transaction completes.
+ * </p>
+ *
+ * <p>
+ * This interface is experimental. It is not part of the Weld API and may change or be removed in a future version.
+ * </p>
+ *
+ * @param <T> the observed event type
+ */
+public interface BatchObserverMethod<T> extends ExperimentalObserverMethod<T> {
+
+    /**
+     * Receives a batch of events. The list contains the events in the order in which they were fired and must not be modified.
+     *
+     * @param events the events
+     */
+    void notifyBatch(List<? extends T> events);
+}
@@ -19,9 +19,6 @@ package org.jboss.weld.event;
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
 
-import org.jboss.weld.Container;
-import org.jboss.weld.context.RequestContext;
-import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.logging.EventLogger;
 
 /**
@@ -67,12 +64,7 @@ public class DeferredEventNotification<T> implements Runnable {
 
                 @Override
                 protected void execute() {
-                    currentEventMetadata.push(metadata);
-                    try {
-                        observer.notify(event);
-                    } finally {
-                        currentEventMetadata.pop();
-                    }
+                    notifyObserver();
                 }
 
             }.run();
@@ -83,6 +75,29 @@ public class DeferredEventNotification<T> implements Runnable {
         }
     }
 
+    /**
+     * Notifies the observer. Unlike {@link #run()}, this method does not check whether the request context is active. It is the
+     * responsibility of the caller to activate it.
+     */
+    void runInRequestContext() {
+        try {
+            EventLogger.LOG.asyncFire(metadata, observer);
+            notifyObserver();
+        } catch (Exception e) {
+            EventLogger.LOG.asyncObserverFailure(metadata);
+            EventLogger.LOG.catchingDebug(e);
+        }
+    }
+
+    private void notifyObserver() {
+        currentEventMetadata.push(metadata);
+        try {
+            observer.notify(event);
+        } finally {
+            currentEventMetadata.pop();
+        }
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -95,41 +110,4 @@ public class DeferredEventNotification<T> implements Runnable {
     public String toString() {
         return "Deferred event [" + event + "] for [" + observer + "]";
     }
-
-    private abstract static class RunInRequest {
-
-        private final String contextId;
-
-        public RunInRequest(String contextId) {
-            this.contextId = contextId;
-        }
-
-        protected abstract void execute();
-
-        public void run() {
-
-            if (isRequestContextActive()) {
-                execute();
-            } else {
-                RequestContext requestContext = Container.instance(contextId).deploymentManager().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
-                try {
-                    requestContext.activate();
-                    execute();
-                } finally {
-                    requestContext.invalidate();
-                    requestContext.deactivate();
-                }
-            }
-        }
-
-        private boolean isRequestContextActive() {
-            for (RequestContext requestContext : Container.instance(contextId).deploymentManager().instance().select(RequestContext.class)) {
-                if (requestContext.isActive()) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-    }
 }
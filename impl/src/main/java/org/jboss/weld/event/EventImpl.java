@@ -17,13 +17,18 @@
 package org.jboss.weld.event;
 
 import static org.jboss.weld.util.collections.WeldCollections.putIfAbsent;
+import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.event.Event;
@@ -33,6 +38,7 @@ import javax.enterprise.util.TypeLiteral;
 
 import org.jboss.weld.bean.builtin.AbstractFacade;
 import org.jboss.weld.bean.builtin.FacadeInjectionPoint;
+import org.jboss.weld.event.GlobalObserverNotifierService.ResolvedEvent;
 import org.jboss.weld.exceptions.InvalidObjectException;
 import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -60,13 +66,11 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
         return new EventImpl<E>(injectionPoint, beanManager);
     }
 
-    private final transient HierarchyDiscovery injectionPointTypeHierarchy;
     private transient volatile CachedObservers lastCachedObservers;
     private final transient Map<Class<?>, CachedObservers> cachedObservers;
 
     private EventImpl(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         super(injectionPoint, null, beanManager);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(getType());
         this.cachedObservers = new ConcurrentHashMap<Class<?>, CachedObservers>(4);
     }
 
@@ -88,6 +92,62 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
         getBeanManager().getGlobalLenientObserverNotifier().notify(observers.observers, event, observers.metadata);
     }
 
+    /**
+     * Fires the event asynchronously. Each observer is notified in a separate task submitted to the container's thread pool.
+     *
+     * @param event the event object
+     * @return a completion stage which is completed once all the observers are notified
+     * @see ObserverNotifier#notifyAsync(ResolvedObservers, Object, EventMetadata)
+     */
+    public <U extends T> CompletionStage<U> fireAsync(U event) {
+        Preconditions.checkArgumentNotNull(event, "event");
+        CachedObservers observers = getObservers(event);
+        // we can do lenient here as the event type is checked within #getObservers()
+        return cast(getBeanManager().getGlobalLenientObserverNotifier().notifyAsync(observers.observers, event, observers.metadata));
+    }
+
+    /**
+     * Fires a batch of events. The observer methods are only resolved once for each run of events with the same runtime type and the
+     * event metadata is only pushed once for each such run. A {@link BatchObserverMethod} receives the whole run at once.
+     *
+     * <p>
+     * Unlike when firing the events one by one, an observer method is notified of all the events of a run before the next observer method
+     * is notified.
+     * </p>
+     *
+     * <p>
+     * This is an experimental feature. It is not part of the Weld API and the injected {@link javax.enterprise.event.Event} has to be cast
+     * to {@link EventImpl} in order to use it. It may change or be removed in a future version.
+     * </p>
+     *
+     * @param events the event objects
+     * @see ObserverNotifier#notifyBatch(ResolvedObservers, List, EventMetadata)
+     */
+    public void fireBatch(Iterable<? extends T> events) {
+        Preconditions.checkArgumentNotNull(events, "events");
+        CachedObservers observers = null;
+        List<T> batch = new ArrayList<T>();
+        for (T event : events) {
+            Preconditions.checkArgumentNotNull(event, "event");
+            CachedObservers eventObservers = getObservers(event);
+            if (eventObservers != observers) {
+                fireBatch(observers, batch);
+                observers = eventObservers;
+                batch = new ArrayList<T>();
+            }
+            batch.add(event);
+        }
+        fireBatch(observers, batch);
+    }
+
+    private void fireBatch(CachedObservers observers, List<T> batch) {
+        if (!batch.isEmpty()) {
+            // we can do lenient here as the event type is checked within #getObservers()
+            getBeanManager().getGlobalLenientObserverNotifier().notifyBatch(observers.observers, Collections.unmodifiableList(batch),
+                    observers.metadata);
+        }
+    }
+
     private CachedObservers getObservers(T event) {
         Class<?> runtimeType = event.getClass();
         CachedObservers lastResolvedObservers = this.lastCachedObservers;
@@ -105,11 +165,11 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
     }
 
     private CachedObservers createCachedObservers(Class<?> runtimeType) {
-        final Type eventType = getEventType(runtimeType);
-        // this performs type check
-        final ResolvedObservers<T> observers = getBeanManager().getGlobalStrictObserverNotifier().resolveObserverMethods(eventType, getQualifiers());
-        final EventMetadata metadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers());
-        return new CachedObservers(runtimeType, observers, metadata);
+        // the event type and the observer methods are shared by all the Event instances with the same type and qualifiers
+        final ResolvedEvent<T> resolvedEvent = getBeanManager().getServices().get(GlobalObserverNotifierService.class).resolveEvent(getType(),
+                runtimeType, getQualifiers());
+        final EventMetadata metadata = new EventMetadataImpl(resolvedEvent.getEventType(), getInjectionPoint(), getQualifiers());
+        return new CachedObservers(runtimeType, resolvedEvent.getObservers(), metadata);
     }
 
     @Override
@@ -135,14 +195,19 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
                 getBeanManager());
     }
 
-    protected Type getEventType(Class<?> runtimeType) {
+    /**
+     * Determines the event type of an event object of the given runtime type fired by an {@link Event} with the given specified type.
+     */
+    static Type getEventType(Type specifiedType, Class<?> runtimeType) {
         Type resolvedType = runtimeType;
-        if (Types.containsUnresolvedTypeVariableOrWildcard(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to infer the parameterized type of the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+        if (!Types.containsUnresolvedTypeVariableOrWildcard(resolvedType)) {
+            return resolvedType;
         }
+        /*
+         * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to infer the parameterized type of the event types.
+         */
+        HierarchyDiscovery injectionPointTypeHierarchy = new HierarchyDiscovery(specifiedType);
+        resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
         if (Types.containsUnresolvedTypeVariableOrWildcard(resolvedType)) {
             /*
              * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
@@ -34,6 +34,7 @@ import org.jboss.weld.Container;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
 import org.jboss.weld.bootstrap.events.NotificationListener;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.InjectionPointFactory;
@@ -52,12 +53,14 @@ import org.jboss.weld.util.reflection.Reflections;
 public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X> {
 
     private final Container containerLifecycleEventDeliveryLock;
+    private final BootstrapProfiler profiler;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
 
     protected ExtensionObserverMethodImpl(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean, BeanManagerImpl manager) {
         super(observer, declaringBean, manager);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
+        this.profiler = containerLifecycleEventDeliveryLock.services().get(BootstrapProfiler.class);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
     }
 
@@ -117,7 +120,16 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
         synchronized (containerLifecycleEventDeliveryLock) {
-            super.sendEvent(event, receiver, creationalContext);
+            if (profiler.isEnabled()) {
+                BootstrapProfiler.Measurement measurement = profiler.startObserver(this, event.getClass());
+                try {
+                    super.sendEvent(event, receiver, creationalContext);
+                } finally {
+                    measurement.stop();
+                }
+            } else {
+                super.sendEvent(event, receiver, creationalContext);
+            }
         }
     }
 
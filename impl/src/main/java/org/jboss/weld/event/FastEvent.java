@@ -17,6 +17,7 @@
 package org.jboss.weld.event;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.spi.EventMetadata;
@@ -93,6 +94,19 @@ public class FastEvent<T> {
         }
     }
 
+    /**
+     * Dispatches a batch of events. Each {@link BatchObserverMethod} is notified once with all the events, other observer methods are
+     * notified of each event. An observer method receives all the events before the next observer method is notified. This is an internal
+     * method, see {@link EventImpl#fireBatch(Iterable)}.
+     *
+     * @param events the events, the list should not be modified afterwards
+     */
+    public void fireBatch(List<T> events) {
+        for (ObserverMethod<? super T> observer : resolvedObserverMethods.getImmediateObservers()) {
+            ObserverNotifier.notifyBatch(observer, events);
+        }
+    }
+
     private static class FastEventWithMetadataPropagation<T> extends FastEvent<T> {
 
         private final EventMetadata metadata;
@@ -118,5 +132,19 @@ public class FastEvent<T> {
                 }
             }
         }
+
+        @Override
+        public void fireBatch(List<T> events) {
+            if (metadata != null) {
+                metadataService.push(metadata);
+            }
+            try {
+                super.fireBatch(events);
+            } finally {
+                if (metadata != null) {
+                    metadataService.pop();
+                }
+            }
+        }
     }
 }
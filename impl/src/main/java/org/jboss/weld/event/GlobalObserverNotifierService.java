@@ -16,6 +16,8 @@
  */
 package org.jboss.weld.event;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -25,10 +27,14 @@ import javax.servlet.ServletContextEvent;
 
 import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
 import org.jboss.weld.util.collections.Iterators;
 
 /**
@@ -44,13 +50,23 @@ public class GlobalObserverNotifierService implements BootstrapService {
     private final Set<BeanManagerImpl> beanManagers;
     private final ObserverNotifier globalLenientObserverNotifier;
     private final ObserverNotifier globalStrictObserverNotifier;
+    // events fired through Event, shared by all the EventImpl instances
+    private final ComputingCache<EventKey, ResolvedEvent<?>> resolvedEvents;
 
     public GlobalObserverNotifierService(ServiceRegistry services, String contextId) {
         this.beanManagers = new CopyOnWriteArraySet<BeanManagerImpl>();
-        TypeSafeObserverResolver resolver = new TypeSafeObserverResolver(services.get(MetaAnnotationStore.class),
-                createGlobalObserverMethodIterable(beanManagers), services.get(WeldConfiguration.class));
+        WeldConfiguration configuration = services.get(WeldConfiguration.class);
+        TypeSafeObserverResolver resolver = new TypeSafeObserverResolver(contextId, services.get(MetaAnnotationStore.class),
+                createGlobalObserverMethodIterable(beanManagers), configuration);
         this.globalLenientObserverNotifier = ObserverNotifier.of(contextId, resolver, services, false);
-        this.globalStrictObserverNotifier = ObserverNotifier.of(contextId, resolver, services, true);
+        final ObserverNotifier strictNotifier = ObserverNotifier.of(contextId, resolver, services, true);
+        this.globalStrictObserverNotifier = strictNotifier;
+        this.resolvedEvents = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .setEvictionPolicy(EvictionPolicy.CLOCK).build((EventKey key) -> {
+                    Type eventType = EventImpl.getEventType(key.specifiedType, key.runtimeType);
+                    // this performs type check
+                    return new ResolvedEvent<Object>(eventType, strictNotifier.resolveObserverMethods(eventType, key.qualifiers));
+                });
     }
 
     private static Iterable<ObserverMethod<?>> createGlobalObserverMethodIterable(final Set<BeanManagerImpl> beanManagers) {
@@ -80,10 +96,25 @@ public class GlobalObserverNotifierService implements BootstrapService {
         return createGlobalObserverMethodIterable(beanManagers);
     }
 
+    /**
+     * Resolves the event type and the observer methods of an event fired through {@link javax.enterprise.event.Event}. The result only
+     * depends on the specified type, the runtime type of the event object and the qualifiers and is therefore shared by all the
+     * {@link EventImpl} instances in the deployment.
+     *
+     * @param specifiedType the type of the {@link javax.enterprise.event.Event}
+     * @param runtimeType the runtime type of the event object
+     * @param qualifiers the qualifiers of the {@link javax.enterprise.event.Event}
+     * @return the resolved event
+     */
+    <T> ResolvedEvent<T> resolveEvent(Type specifiedType, Class<?> runtimeType, Set<Annotation> qualifiers) {
+        return resolvedEvents.getCastValue(new EventKey(specifiedType, runtimeType, qualifiers));
+    }
+
     @Override
     public void cleanupAfterBoot() {
         this.globalStrictObserverNotifier.clear();
         this.globalLenientObserverNotifier.clear();
+        this.resolvedEvents.clear();
     }
 
     @Override
@@ -91,4 +122,59 @@ public class GlobalObserverNotifierService implements BootstrapService {
         cleanupAfterBoot();
         this.beanManagers.clear();
     }
+
+    static final class ResolvedEvent<T> {
+
+        private final Type eventType;
+        private final ResolvedObservers<T> observers;
+
+        private ResolvedEvent(Type eventType, ResolvedObservers<T> observers) {
+            this.eventType = eventType;
+            this.observers = observers;
+        }
+
+        Type getEventType() {
+            return eventType;
+        }
+
+        ResolvedObservers<T> getObservers() {
+            return observers;
+        }
+    }
+
+    private static final class EventKey {
+
+        private final Type specifiedType;
+        private final Class<?> runtimeType;
+        private final Set<Annotation> qualifiers;
+        private final int hashCode;
+
+        private EventKey(Type specifiedType, Class<?> runtimeType, Set<Annotation> qualifiers) {
+            this.specifiedType = specifiedType;
+            this.runtimeType = runtimeType;
+            this.qualifiers = qualifiers;
+            int hashCode = 17;
+            hashCode = 31 * hashCode + specifiedType.hashCode();
+            hashCode = 31 * hashCode + runtimeType.hashCode();
+            hashCode = 31 * hashCode + qualifiers.hashCode();
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof EventKey) {
+                EventKey that = (EventKey) obj;
+                return runtimeType.equals(that.runtimeType) && specifiedType.equals(that.specifiedType) && qualifiers.equals(that.qualifiers);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
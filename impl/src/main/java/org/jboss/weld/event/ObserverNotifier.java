@@ -20,15 +20,24 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.logging.UtilLogger;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
@@ -63,7 +72,7 @@ public class ObserverNotifier {
         if (services.contains(TransactionServices.class)) {
             return new TransactionalObserverNotifier(contextId, resolver, services, strict);
         } else {
-            return new ObserverNotifier(resolver, services, strict);
+            return new ObserverNotifier(contextId, resolver, services, strict);
         }
     }
 
@@ -74,8 +83,12 @@ public class ObserverNotifier {
     private final boolean strict;
     protected final CurrentEventMetadata currentEventMetadata;
     private final ComputingCache<Type, RuntimeException> eventTypeCheckCache;
+    protected final String contextId;
+    private final ServiceRegistry services;
 
-    protected ObserverNotifier(TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
+    protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
+        this.contextId = contextId;
+        this.services = services;
         this.resolver = resolver;
         this.sharedObjectCache = services.get(SharedObjectCache.class);
         this.strict = strict;
@@ -204,6 +217,81 @@ public class ObserverNotifier {
         notifyTransactionObservers(observers.getTransactionObservers(), event, metadata);
     }
 
+    /**
+     * Delivers the event to the resolved observers asynchronously. Each immediate observer is notified in a separate task submitted to
+     * the {@link ExecutorServices} thread pool. The task runs within an active request context and with the event metadata available.
+     * If no {@link ExecutorServices} is available, the observers are notified in the caller's thread. Transactional observers are
+     * always processed in the caller's thread as the transaction is bound to it.
+     *
+     * @param observers the resolved observers
+     * @param event the event object
+     * @param metadata the event metadata
+     * @return a completion stage which is completed with the event object once all the observers are notified, or completed
+     *         exceptionally with a {@link CompletionException} if any of the observers threw an exception - the exceptions thrown by
+     *         other observers are added as suppressed exceptions
+     */
+    public <T> CompletionStage<T> notifyAsync(ResolvedObservers<T> observers, T event, EventMetadata metadata) {
+        if (!observers.isMetadataRequired()) {
+            metadata = null;
+        }
+        notifyTransactionObservers(observers.getTransactionObservers(), event, metadata);
+
+        List<ObserverMethod<? super T>> immediateObservers = observers.getImmediateObservers();
+        if (immediateObservers.isEmpty()) {
+            return CompletableFuture.completedFuture(event);
+        }
+        ExecutorServices executorServices = services.get(ExecutorServices.class);
+        Executor executor = (executorServices != null) ? executorServices.getTaskExecutor() : Runnable::run;
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<RuntimeException>();
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[immediateObservers.size()];
+        for (int i = 0; i < notifications.length; i++) {
+            notifications[i] = CompletableFuture.runAsync(new AsyncObserverNotification<T>(immediateObservers.get(i), event, metadata, failures),
+                    executor);
+        }
+        return CompletableFuture.allOf(notifications).thenApply((ignored) -> {
+            if (failures.isEmpty()) {
+                return event;
+            }
+            Iterator<RuntimeException> iterator = failures.iterator();
+            CompletionException exception = new CompletionException(iterator.next());
+            while (iterator.hasNext()) {
+                exception.addSuppressed(iterator.next());
+            }
+            throw exception;
+        });
+    }
+
+    /**
+     * Delivers a batch of events to the resolved observers. The event metadata is only pushed once for the whole batch. Each
+     * {@link BatchObserverMethod} is notified once with all the events, other immediate observers are notified of each event. An observer
+     * method receives all the events of the batch before the next observer method is notified.
+     *
+     * @param observers the observers resolved for the type of the events
+     * @param events the events
+     * @param metadata the event metadata
+     */
+    public <T> void notifyBatch(ResolvedObservers<T> observers, List<T> events, EventMetadata metadata) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!observers.isMetadataRequired()) {
+            metadata = null;
+        }
+        notifySyncObserversOfBatch(observers.getImmediateObservers(), events, metadata);
+        notifyTransactionObserversOfBatch(observers.getTransactionObservers(), events, metadata);
+    }
+
+    static <T> void notifyBatch(ObserverMethod<? super T> observer, List<T> events) {
+        if (observer instanceof BatchObserverMethod<?>) {
+            BatchObserverMethod<? super T> batchObserver = cast(observer);
+            batchObserver.notifyBatch(events);
+        } else {
+            for (T event : events) {
+                observer.notify(event);
+            }
+        }
+    }
+
     protected <T> void notifySyncObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata) {
         if (observers.isEmpty()) {
             return;
@@ -225,4 +313,72 @@ public class ObserverNotifier {
     protected <T> void notifyTransactionObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata) {
         notifySyncObservers(observers, event, metadata); // no transaction support
     }
+
+    protected <T> void notifySyncObserversOfBatch(List<ObserverMethod<? super T>> observers, List<T> events, EventMetadata metadata) {
+        if (observers.isEmpty()) {
+            return;
+        }
+        if (metadata != null) {
+            currentEventMetadata.push(metadata);
+        }
+        try {
+            for (ObserverMethod<? super T> observer : observers) {
+                notifyBatch(observer, events);
+            }
+        } finally {
+            if (metadata != null) {
+                currentEventMetadata.pop();
+            }
+        }
+    }
+
+    protected <T> void notifyTransactionObserversOfBatch(List<ObserverMethod<? super T>> observers, List<T> events, EventMetadata metadata) {
+        notifySyncObserversOfBatch(observers, events, metadata); // no transaction support
+    }
+
+    /**
+     * Notifies a single observer of an event fired asynchronously. Exceptions thrown by the observer are collected so that they can be
+     * reported through the resulting completion stage.
+     *
+     * @param <T> the event type
+     */
+    private class AsyncObserverNotification<T> extends RunInRequest implements Runnable {
+
+        private final ObserverMethod<? super T> observer;
+        private final T event;
+        private final EventMetadata metadata;
+        private final Queue<RuntimeException> failures;
+
+        private AsyncObserverNotification(ObserverMethod<? super T> observer, T event, EventMetadata metadata, Queue<RuntimeException> failures) {
+            super(contextId);
+            this.observer = observer;
+            this.event = event;
+            this.metadata = metadata;
+            this.failures = failures;
+        }
+
+        @Override
+        public void run() {
+            EventLogger.LOG.asyncFire(event, observer);
+            try {
+                super.run();
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+
+        @Override
+        protected void execute() {
+            if (metadata != null) {
+                currentEventMetadata.push(metadata);
+            }
+            try {
+                observer.notify(event);
+            } finally {
+                if (metadata != null) {
+                    currentEventMetadata.pop();
+                }
+            }
+        }
+    }
 }
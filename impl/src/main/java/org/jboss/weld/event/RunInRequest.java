@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2008, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+
+/**
+ * Executes a piece of code within an active request context. If there is no active request context, the unbound request context is
+ * activated for the duration of the execution and destroyed afterwards.
+ *
+ * @author David Allen
+ * @author Jozef Hartinger
+ */
+abstract class RunInRequest {
+
+    private final String contextId;
+
+    public RunInRequest(String contextId) {
+        this.contextId = contextId;
+    }
+
+    protected abstract void execute();
+
+    public void run() {
+
+        if (isRequestContextActive()) {
+            execute();
+        } else {
+            RequestContext requestContext = Container.instance(contextId).deploymentManager().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            try {
+                requestContext.activate();
+                execute();
+            } finally {
+                requestContext.invalidate();
+                requestContext.deactivate();
+            }
+        }
+    }
+
+    private boolean isRequestContextActive() {
+        for (RequestContext requestContext : Container.instance(contextId).deploymentManager().instance().select(RequestContext.class)) {
+            if (requestContext.isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
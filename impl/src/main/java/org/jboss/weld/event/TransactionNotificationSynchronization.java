@@ -16,25 +16,55 @@
  */
 package org.jboss.weld.event;
 
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.transaction.Synchronization;
 
 /**
  * A JTA transaction synchronization which wraps all defferred transactional event notifications.
  *
+ * <p>
+ * If possible, a single synchronization is registered for a transaction and the notifications of all the events fired within the
+ * transaction are appended to it. The request context is only looked up once per transaction phase, not for every notification.
+ * </p>
+ *
  * @author David Allen
  */
 public class TransactionNotificationSynchronization implements Synchronization {
 
-    private final List<DeferredEventNotification<?>> notifications;
+    private final String contextId;
+
+    private final Queue<DeferredEventNotification<?>> notifications;
+
+    private volatile boolean closed;
+
+    /**
+     *
+     * @param contextId The container id
+     */
+    public TransactionNotificationSynchronization(String contextId) {
+        this.contextId = contextId;
+        this.notifications = new ConcurrentLinkedQueue<DeferredEventNotification<?>>();
+    }
+
+    /**
+     * Appends a notification. The notifications are processed in the order in which they were added.
+     *
+     * @param notification
+     */
+    public void add(DeferredEventNotification<?> notification) {
+        notifications.add(notification);
+    }
 
     /**
+     * Once the transaction starts completing, no more notifications may be added. A new synchronization has to be registered for events
+     * fired during completion, e.g. by a before completion observer.
      *
-     * @param notifications The ordered list of notifications
+     * @return true if no more notifications may be added, false otherwise
      */
-    public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
-        this.notifications = notifications;
+    public boolean isClosed() {
+        return closed;
     }
 
     /*
@@ -42,12 +72,21 @@ public class TransactionNotificationSynchronization implements Synchronization {
      *
      * @see javax.transaction.Synchronization#afterCompletion(int)
      */
-    public void afterCompletion(int status) {
-        for (DeferredEventNotification<?> notification : notifications) {
-            if (!notification.isBefore() && notification.getStatus().matches(status)) {
-                notification.run();
-            }
+    public void afterCompletion(final int status) {
+        closed = true;
+        if (!hasAfterCompletionNotifications(status)) {
+            return;
         }
+        new RunInRequest(contextId) {
+            @Override
+            protected void execute() {
+                for (DeferredEventNotification<?> notification : notifications) {
+                    if (!notification.isBefore() && notification.getStatus().matches(status)) {
+                        notification.runInRequestContext();
+                    }
+                }
+            }
+        }.run();
     }
 
     /*
@@ -56,10 +95,37 @@ public class TransactionNotificationSynchronization implements Synchronization {
      * @see javax.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
+        closed = true;
+        if (!hasBeforeCompletionNotifications()) {
+            return;
+        }
+        new RunInRequest(contextId) {
+            @Override
+            protected void execute() {
+                for (DeferredEventNotification<?> notification : notifications) {
+                    if (notification.isBefore()) {
+                        notification.runInRequestContext();
+                    }
+                }
+            }
+        }.run();
+    }
+
+    private boolean hasBeforeCompletionNotifications() {
         for (DeferredEventNotification<?> notification : notifications) {
             if (notification.isBefore()) {
-                notification.run();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAfterCompletionNotifications(int status) {
+        for (DeferredEventNotification<?> notification : notifications) {
+            if (!notification.isBefore() && notification.getStatus().matches(status)) {
+                return true;
             }
         }
+        return false;
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+/**
+ * An optional service which gives Weld access to the JTA {@link TransactionSynchronizationRegistry}. If it is available, the deferred
+ * notifications of all the events fired within a transaction are processed by a single transaction synchronization. Otherwise, a
+ * synchronization is registered through {@link TransactionServices} for every event with transactional observer methods.
+ *
+ * <p>
+ * The service may be registered by the integrator or discovered using the service loader mechanism.
+ * </p>
+ *
+ * @see TransactionalObserverNotifier
+ */
+public interface TransactionSynchronizationRegistryServices extends Service {
+
+    /**
+     * @return the registry of the current transaction manager or null if it is not available at the moment
+     */
+    TransactionSynchronizationRegistry getTransactionSynchronizationRegistry();
+
+}
@@ -16,12 +16,12 @@
  */
 package org.jboss.weld.event;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.enterprise.event.TransactionPhase;
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
+import javax.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
@@ -30,17 +30,28 @@ import org.jboss.weld.transaction.spi.TransactionServices;
 /**
  * {@link ObserverNotifier} with support for transactional observer methods.
  *
+ * <p>
+ * If the {@link TransactionSynchronizationRegistry} is provided by {@link TransactionSynchronizationRegistryServices}, a single
+ * {@link TransactionNotificationSynchronization} is registered per transaction and container. The deferred notifications of all the
+ * events fired within the transaction are appended to it. Otherwise, a synchronization is registered for every event.
+ * </p>
+ *
  * @author Jozef Hartinger
  */
 public class TransactionalObserverNotifier extends ObserverNotifier {
 
     private final TransactionServices transactionServices;
-    private final String contextId;
+
+    private final TransactionSynchronizationRegistryServices synchronizationRegistryServices;
+
+    // the key of the synchronization within the resources of a transaction, shared by all the bean managers of the container
+    private final String synchronizationKey;
 
     protected TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
-        super(resolver, services, strict);
-        this.contextId = contextId;
+        super(contextId, resolver, services, strict);
         this.transactionServices = services.get(TransactionServices.class);
+        this.synchronizationRegistryServices = services.get(TransactionSynchronizationRegistryServices.class);
+        this.synchronizationKey = TransactionNotificationSynchronization.class.getName() + "." + contextId;
     }
 
     /**
@@ -49,11 +60,11 @@ public class TransactionalObserverNotifier extends ObserverNotifier {
      *
      * @param metadata The event object
      */
-    private <T> void deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer, final List<DeferredEventNotification<?>> notifications) {
+    private <T> void deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer, final TransactionNotificationSynchronization synchronization) {
         TransactionPhase transactionPhase = observer.getTransactionPhase();
         boolean before = transactionPhase.equals(TransactionPhase.BEFORE_COMPLETION);
         Status status = Status.valueOf(transactionPhase);
-        notifications.add(new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
+        synchronization.add(new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
     }
 
     @Override
@@ -65,11 +76,53 @@ public class TransactionalObserverNotifier extends ObserverNotifier {
             // Transaction is not active - no deferred notifications
             notifySyncObservers(observers, event, metadata);
         } else {
-            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>();
+            TransactionNotificationSynchronization synchronization = getSynchronization();
             for (ObserverMethod<? super T> observer : observers) {
-                deferNotification(event, metadata, observer, notifications);
+                deferNotification(event, metadata, observer, synchronization);
+            }
+        }
+    }
+
+    @Override
+    protected <T> void notifyTransactionObserversOfBatch(List<ObserverMethod<? super T>> observers, List<T> events, EventMetadata metadata) {
+        if (observers.isEmpty()) {
+            return;
+        }
+        if (transactionServices == null || !transactionServices.isTransactionActive()) {
+            // Transaction is not active - no deferred notifications
+            notifySyncObserversOfBatch(observers, events, metadata);
+        } else {
+            // the synchronization is only looked up once for the whole batch
+            TransactionNotificationSynchronization synchronization = getSynchronization();
+            for (T event : events) {
+                for (ObserverMethod<? super T> observer : observers) {
+                    deferNotification(event, metadata, observer, synchronization);
+                }
             }
-            transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
         }
     }
+
+    /**
+     * Returns the synchronization of the current transaction. A new synchronization is registered if there is none yet or if the
+     * transaction is already completing.
+     */
+    private TransactionNotificationSynchronization getSynchronization() {
+        TransactionSynchronizationRegistry registry = synchronizationRegistryServices != null ? synchronizationRegistryServices
+                .getTransactionSynchronizationRegistry() : null;
+        if (registry == null) {
+            return registerSynchronization();
+        }
+        TransactionNotificationSynchronization synchronization = (TransactionNotificationSynchronization) registry.getResource(synchronizationKey);
+        if (synchronization == null || synchronization.isClosed()) {
+            synchronization = registerSynchronization();
+            registry.putResource(synchronizationKey, synchronization);
+        }
+        return synchronization;
+    }
+
+    private TransactionNotificationSynchronization registerSynchronization() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(contextId);
+        transactionServices.registerSynchronization(synchronization);
+        return synchronization;
+    }
 }
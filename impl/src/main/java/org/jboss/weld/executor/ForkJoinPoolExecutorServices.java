@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.weld.exceptions.DeploymentException;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Implementation of {@link org.jboss.weld.manager.api.ExecutorServices} that uses a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The items of an {@link IterativeWorkerTaskFactory} are not polled one by one from a shared queue. Instead, the list of items is split
+ * recursively for as long as there are idle worker threads which may steal the forked halves. A slow item therefore only delays the
+ * chunk it belongs to, the rest of the items is processed by the other workers. Other tasks are executed as usual.
+ * </p>
+ *
+ * <p>
+ * {@link IterativeWorkerTaskFactory#init()} and {@link IterativeWorkerTaskFactory#cleanup()} are called for every chunk, on the thread
+ * processing the chunk. A worker thread which processes several chunks therefore calls them several times.
+ * </p>
+ *
+ */
+public class ForkJoinPoolExecutorServices extends AbstractExecutorServices {
+
+    /**
+     * A chunk is only split if there are at most this many forked tasks waiting to be stolen.
+     */
+    private static final int SURPLUS_THRESHOLD = 2;
+
+    private final int threadPoolSize;
+
+    private final ForkJoinPool executor;
+
+    public ForkJoinPoolExecutorServices(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+        this.executor = new ForkJoinPool(threadPoolSize, new DaemonForkJoinWorkerThreadFactory("weld-worker-fj-"), null, false);
+        BootstrapLogger.LOG.threadsInUse(threadPoolSize);
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return executor;
+    }
+
+    @Override
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory) {
+        if (factory instanceof IterativeWorkerTaskFactory<?>) {
+            IterativeWorkerTaskFactory<?> iterativeFactory = (IterativeWorkerTaskFactory<?>) factory;
+            ChunkTask<?> task = createTask(iterativeFactory);
+            executor.invoke(task);
+            // the failure is rethrown like by checkForExceptions() - ForkJoinTask would rethrow a copy created in the calling thread
+            Throwable failure = task.failure.get();
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure != null) {
+                throw new DeploymentException(failure);
+            }
+            return Reflections.cast(Collections.singletonList(task));
+        }
+        return super.invokeAllAndCheckForExceptions(factory);
+    }
+
+    private static <T> ChunkTask<T> createTask(IterativeWorkerTaskFactory<T> factory) {
+        List<T> items = new ArrayList<T>(factory.getQueue());
+        factory.getQueue().clear();
+        return new ChunkTask<T>(factory, items, 0, items.size(), new AtomicReference<Throwable>());
+    }
+
+    @Override
+    public String toString() {
+        return "ForkJoinPoolExecutorServices [threadPoolSize=" + threadPoolSize + "]";
+    }
+
+    private static class ChunkTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IterativeWorkerTaskFactory<T> factory;
+        private final List<T> items;
+        private final int from;
+        private int to;
+        // the first failure of any chunk, shared by all the chunks of the list
+        private final AtomicReference<Throwable> failure;
+
+        private ChunkTask(IterativeWorkerTaskFactory<T> factory, List<T> items, int from, int to, AtomicReference<Throwable> failure) {
+            this.factory = factory;
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            List<ChunkTask<T>> forked = null;
+            // keep the left half and fork the right one while the other workers are likely to be idle
+            while (to - from > 1 && getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ChunkTask<T> right = new ChunkTask<T>(factory, items, middle, to, failure);
+                right.fork();
+                if (forked == null) {
+                    forked = new ArrayList<ChunkTask<T>>();
+                }
+                forked.add(right);
+                to = middle;
+            }
+            try {
+                factory.init();
+                try {
+                    Thread thread = Thread.currentThread();
+                    // the remaining items are skipped once a chunk failed
+                    for (int i = from; i < to && !thread.isInterrupted() && failure.get() == null; i++) {
+                        factory.doWork(items.get(i));
+                    }
+                } finally {
+                    factory.cleanup();
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+            if (forked != null) {
+                for (ChunkTask<T> task : forked) {
+                    task.join();
+                }
+            }
+        }
+    }
+
+    private static class DaemonForkJoinWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String threadNamePrefix;
+
+        private DaemonForkJoinWorkerThreadFactory(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
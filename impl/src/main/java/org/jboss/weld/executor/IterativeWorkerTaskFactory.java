@@ -67,13 +67,14 @@ public abstract class IterativeWorkerTaskFactory<T> implements ExecutorServices.
     }
 
     /**
-     * Called before the compilation begins.
+     * Called before the compilation begins. Called once by each worker, on the thread of the worker. {@link ForkJoinPoolExecutorServices}
+     * calls it once for each chunk of items instead, i.e. possibly several times on the same thread.
      */
     protected void init() {
     }
 
     /**
-     * Called after the computation finishes.
+     * Called after the computation finishes, on the thread which called {@link #init()}.
      */
     protected void cleanup() {
     }
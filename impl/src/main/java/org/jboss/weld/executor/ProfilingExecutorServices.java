@@ -42,15 +42,23 @@ public class ProfilingExecutorServices implements ExecutorServices {
             start = System.currentTimeMillis();
         }
 
-        public void stopProfiling() {
+        /**
+         * @param items the number of processed items or -1 if not known
+         */
+        public void stopProfiling(int items) {
             if (start == 0L) {
                 throw new IllegalStateException();
             }
             final long current = System.currentTimeMillis();
             final long time = current - start;
             StackTraceElement myCaller = (Thread.currentThread().getStackTrace())[CALLER_STACK_TRACE_ORDER];
-            BootstrapLogger.LOG.infov("ThreadPool task execution with ID #{0} called by {1}.{2}()  took {3} ms", id, myCaller.getClassName(),
-                    myCaller.getMethodName(), time);
+            if (items < 0) {
+                BootstrapLogger.LOG.infov("ThreadPool task execution with ID #{0} called by {1}.{2}()  took {3} ms", id, myCaller.getClassName(),
+                        myCaller.getMethodName(), time);
+            } else {
+                BootstrapLogger.LOG.infov("ThreadPool task execution with ID #{0} called by {1}.{2}()  took {3} ms, {4} items processed ({5} items/s)", id,
+                        myCaller.getClassName(), myCaller.getMethodName(), time, items, time > 0 ? items * 1000L / time : items);
+            }
             start = 0L;
             executionTimeSum.addAndGet(time);
         }
@@ -69,7 +77,7 @@ public class ProfilingExecutorServices implements ExecutorServices {
                 measurement.startProfiling();
                 return delegate().invokeAll(tasks);
             } finally {
-                measurement.stopProfiling();
+                measurement.stopProfiling(-1);
             }
         }
     }
@@ -104,18 +112,20 @@ public class ProfilingExecutorServices implements ExecutorServices {
         try {
             return delegate.invokeAllAndCheckForExceptions(tasks);
         } finally {
-            measurement.stopProfiling();
+            measurement.stopProfiling(-1);
         }
     }
 
     @Override
     public <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory) {
+        // the queue is drained during the execution
+        int items = factory instanceof IterativeWorkerTaskFactory<?> ? ((IterativeWorkerTaskFactory<?>) factory).getQueue().size() : -1;
         Measurement measurement = new Measurement();
         measurement.startProfiling();
         try {
             return delegate.invokeAllAndCheckForExceptions(factory);
         } finally {
-            measurement.stopProfiling();
+            measurement.stopProfiling(items);
         }
     }
 
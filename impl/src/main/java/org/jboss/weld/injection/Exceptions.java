@@ -30,7 +30,7 @@ class Exceptions {
     private Exceptions() {
     }
 
-    private static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
+    static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
         if (t instanceof RuntimeException) {
             throw (RuntimeException) t;
         } else {
@@ -46,7 +46,7 @@ class Exceptions {
         }
     }
 
-    private static void rethrowException(Throwable t) {
+    static void rethrowException(Throwable t) {
         rethrowException(t, CreationException.class);
     }
 
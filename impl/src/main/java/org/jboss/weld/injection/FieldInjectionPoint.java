@@ -20,6 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 
@@ -56,13 +57,20 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     private final boolean cacheable;
     private transient Bean<?> cachedBean;
     private final transient Field accessibleField;
+    // null unless method handles are enabled
+    private final transient MethodHandle setter;
 
     private final FieldInjectionPointAttributes<T, X> attributes;
 
     protected FieldInjectionPoint(FieldInjectionPointAttributes<T, X> attributes) {
+        this(attributes, false);
+    }
+
+    protected FieldInjectionPoint(FieldInjectionPointAttributes<T, X> attributes, boolean useMethodHandle) {
         this.attributes = attributes;
         this.cacheable = isCacheableInjectionPoint(attributes);
         this.accessibleField = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Field>(attributes.getMember()));
+        this.setter = useMethodHandle ? InjectionMethodHandles.setter(accessibleField) : null;
     }
 
     protected static boolean isCacheableInjectionPoint(WeldInjectionPointAttributes<?, ?> attributes) {
@@ -91,7 +99,11 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
                 }
                 objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
             }
-            accessibleField.set(instanceToInject, objectToInject);
+            if (setter != null) {
+                setWithMethodHandle(instanceToInject, objectToInject);
+            } else {
+                accessibleField.set(instanceToInject, objectToInject);
+            }
         } catch (IllegalArgumentException e) {
             rethrowException(e);
         } catch (IllegalAccessException e) {
@@ -99,6 +111,22 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         }
     }
 
+    private void setWithMethodHandle(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException | NullPointerException e) {
+            IllegalArgumentException mismatch = InjectionMethodHandles.checkField(accessibleField, instance, value);
+            if (mismatch != null) {
+                throw mismatch;
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            rethrowException(e);
+        }
+    }
+
     @Override
     protected FieldInjectionPointAttributes<T, X> delegate() {
         return attributes;
@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.Primitives;
+
+/**
+ * Creates {@link MethodHandle}s used to inject fields and invoke methods instead of the reflection API. The handles are created once
+ * per injection point and adapted to a generic signature so that they can be invoked using {@link MethodHandle#invokeExact(Object...)}.
+ *
+ * <p>
+ * An adapted handle reports a receiver or an argument of a wrong type as a {@link ClassCastException} or a
+ * {@link NullPointerException}, whereas the reflection API throws an {@link IllegalArgumentException}. The check methods are only
+ * called once a handle failed and tell the two cases apart so that callers can throw what the reflection API would.
+ * </p>
+ * @see ConfigurationKey#INJECTION_METHOD_HANDLES
+ */
+final class InjectionMethodHandles {
+
+    /**
+     * (Object receiver, Object value)void
+     */
+    static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * (Object receiver, Object[] parameters)Object
+     */
+    static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private InjectionMethodHandles() {
+    }
+
+    static boolean isEnabled(BeanManagerImpl manager) {
+        return manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTION_METHOD_HANDLES);
+    }
+
+    /**
+     * @param accessibleField the field with the accessible flag set
+     * @return a method handle of the {@link #SETTER_TYPE} type
+     */
+    static MethodHandle setter(Field accessibleField) {
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(accessibleField);
+            if (Modifier.isStatic(accessibleField.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new org.jboss.weld.exceptions.IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param accessibleMethod the method with the accessible flag set
+     * @return a method handle of the {@link #INVOKER_TYPE} type
+     */
+    static MethodHandle invoker(Method accessibleMethod) {
+        try {
+            MethodHandle invoker = MethodHandles.lookup().unreflect(accessibleMethod);
+            if (Modifier.isStatic(accessibleMethod.getModifiers())) {
+                invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+            }
+            return invoker.asSpreader(Object[].class, accessibleMethod.getParameterTypes().length).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new org.jboss.weld.exceptions.IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the exception {@link Field#set(Object, Object)} would throw for the given receiver and value, or null if the field
+     *         could be set
+     */
+    static IllegalArgumentException checkField(Field field, Object receiver, Object value) {
+        if (!isReceiverAssignable(field, receiver) || !isAssignable(field.getType(), value)) {
+            return new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                    + field.getName() + " to " + (value == null ? "null value" : value.getClass().getName()));
+        }
+        return null;
+    }
+
+    /**
+     * @return the exception {@link Method#invoke(Object, Object...)} would throw for the given receiver and arguments, or null if the
+     *         method could be invoked
+     */
+    static IllegalArgumentException checkArguments(Method method, Object receiver, Object[] arguments) {
+        if (!isReceiverAssignable(method, receiver)) {
+            return new IllegalArgumentException("object is not an instance of declaring class");
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        int length = arguments == null ? 0 : arguments.length;
+        if (length != parameterTypes.length) {
+            return new IllegalArgumentException("wrong number of arguments");
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAssignable(parameterTypes[i], arguments[i])) {
+                return new IllegalArgumentException("argument type mismatch");
+            }
+        }
+        return null;
+    }
+
+    private static boolean isReceiverAssignable(Member member, Object receiver) {
+        // a null receiver of an instance member results in a NullPointerException in both cases
+        return Modifier.isStatic(member.getModifiers()) || receiver == null || member.getDeclaringClass().isInstance(receiver);
+    }
+
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        if (!type.isPrimitive()) {
+            return type.isInstance(value);
+        }
+        // unboxing followed by a widening primitive conversion
+        Class<?> primitive = Primitives.unwrap(value.getClass());
+        if (primitive == type) {
+            return true;
+        }
+        if (primitive == byte.class) {
+            return type == short.class || type == int.class || type == long.class || type == float.class || type == double.class;
+        }
+        if (primitive == short.class || primitive == char.class) {
+            return type == int.class || type == long.class || type == float.class || type == double.class;
+        }
+        if (primitive == int.class) {
+            return type == long.class || type == float.class || type == double.class;
+        }
+        if (primitive == long.class) {
+            return type == float.class || type == double.class;
+        }
+        if (primitive == float.class) {
+            return type == double.class;
+        }
+        return false;
+    }
+}
@@ -136,7 +136,7 @@ public class InjectionPointFactory {
         FieldInjectionPointAttributes<T, X> attributes = InferringFieldInjectionPointAttributes.of(field, declaringBean,
             declaringComponentClass, manager);
         attributes = processInjectionPoint(attributes, declaringComponentClass, manager);
-        return new FieldInjectionPoint<T, X>(attributes);
+        return new FieldInjectionPoint<T, X>(attributes, InjectionMethodHandles.isEnabled(manager));
     }
 
     /**
@@ -20,6 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Iterator;
@@ -49,11 +50,14 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    // null unless method handles are enabled
+    private final MethodHandle invoker;
 
     StaticMethodInjectionPoint(EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Class<? extends Annotation> specialParameterMarker, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(enhancedMethod, declaringBean, declaringComponentClass, specialParameterMarker != null, factory, manager);
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
+        this.invoker = InjectionMethodHandles.isEnabled(manager) ? InjectionMethodHandles.invoker(accessibleMethod) : null;
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarker);
     }
@@ -85,8 +89,19 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     }
 
     public T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        Method method = null;
         try {
-            return cast(getMethod(receiver).invoke(receiver, parameters));
+            method = getMethod(receiver);
+        } catch (SecurityException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        } catch (NoSuchMethodException e) {
+            rethrowException(e, exceptionTypeToThrow);
+        }
+        if (invoker != null && (method == accessibleMethod || method.equals(accessibleMethod))) {
+            return invokeMethodHandle(receiver, parameters, exceptionTypeToThrow);
+        }
+        try {
+            return cast(method.invoke(receiver, parameters));
         } catch (IllegalArgumentException e) {
             rethrowException(e, exceptionTypeToThrow);
         } catch (SecurityException e) {
@@ -95,7 +110,23 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
             rethrowException(e, exceptionTypeToThrow);
         } catch (InvocationTargetException e) {
             rethrowException(e, exceptionTypeToThrow);
-        } catch (NoSuchMethodException e) {
+        }
+        return null;
+    }
+
+    private T invokeMethodHandle(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        try {
+            return cast((Object) invoker.invokeExact(receiver, parameters));
+        } catch (ClassCastException | NullPointerException e) {
+            IllegalArgumentException mismatch = InjectionMethodHandles.checkArguments(accessibleMethod, receiver, parameters);
+            if (mismatch != null) {
+                rethrowException(mismatch, exceptionTypeToThrow);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            // unlike reflection, method handles do not wrap exceptions thrown by the target method
+            throw e;
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
         }
         return null;
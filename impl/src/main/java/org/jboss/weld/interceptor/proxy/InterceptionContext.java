@@ -36,6 +36,9 @@ import java.util.Set;
 import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.interceptor.reader.AbstractInterceptorMetadata;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
@@ -111,14 +114,15 @@ public class InterceptionContext implements Serializable {
     public List<InterceptorMethodInvocation> buildInterceptorMethodInvocations(Object instance, Method method, InterceptionType interceptionType) {
         List<? extends InterceptorClassMetadata<?>> interceptorList = interceptionModel.getInterceptors(interceptionType, method);
         List<InterceptorMethodInvocation> interceptorInvocations = new ArrayList<InterceptorMethodInvocation>(interceptorList.size());
+        boolean useMethodHandles = isMethodHandlesEnabled();
         for (InterceptorClassMetadata<?> interceptorMetadata : interceptorList) {
-            interceptorInvocations.addAll(interceptorMetadata.getInterceptorInvocation(getInterceptorInstance(interceptorMetadata), interceptionType)
+            interceptorInvocations.addAll(getInterceptorInvocation(interceptorMetadata, getInterceptorInstance(interceptorMetadata), interceptionType, useMethodHandles)
                     .getInterceptorMethodInvocations());
         }
         TargetClassInterceptorMetadata targetClassInterceptorMetadata = getInterceptionModel().getTargetClassInterceptorMetadata();
         if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)) {
             interceptorInvocations
-                    .addAll(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType).getInterceptorMethodInvocations());
+                    .addAll(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType, useMethodHandles).getInterceptorMethodInvocations());
         }
         return ImmutableList.copyOf(interceptorInvocations);
     }
@@ -126,11 +130,28 @@ public class InterceptionContext implements Serializable {
     public List<InterceptorMethodInvocation> buildInterceptorMethodInvocationsForConstructorInterception() {
         List<? extends InterceptorClassMetadata<?>> interceptorList = interceptionModel.getConstructorInvocationInterceptors();
         List<InterceptorMethodInvocation> interceptorInvocations = new ArrayList<InterceptorMethodInvocation>(interceptorList.size());
+        boolean useMethodHandles = isMethodHandlesEnabled();
         for (InterceptorClassMetadata<?> metadata : interceptorList) {
             Object interceptorInstance = getInterceptorInstance(metadata);
-            InterceptorInvocation invocation = metadata.getInterceptorInvocation(interceptorInstance, InterceptionType.AROUND_CONSTRUCT);
+            InterceptorInvocation invocation = getInterceptorInvocation(metadata, interceptorInstance, InterceptionType.AROUND_CONSTRUCT, useMethodHandles);
             interceptorInvocations.addAll(invocation.getInterceptorMethodInvocations());
         }
         return ImmutableList.copyOf(interceptorInvocations);
     }
+
+    private boolean isMethodHandlesEnabled() {
+        return manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES);
+    }
+
+    /**
+     * Interceptors with custom metadata (e.g. interceptors registered by an extension) are always invoked through the
+     * {@link InterceptorInvocation} they provide.
+     */
+    private static InterceptorInvocation getInterceptorInvocation(InterceptorClassMetadata<?> metadata, Object interceptorInstance, InterceptionType interceptionType,
+            boolean useMethodHandles) {
+        if (useMethodHandles && metadata instanceof AbstractInterceptorMetadata) {
+            return ((AbstractInterceptorMetadata) metadata).getInterceptorInvocation(interceptorInstance, interceptionType, true);
+        }
+        return metadata.getInterceptorInvocation(interceptorInstance, interceptionType);
+    }
 }
@@ -40,7 +40,6 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     public Object invoke(Stack stack, Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        SecurityActions.ensureAccessible(proceed);
         if (proceed == null) {
             if (thisMethod.getName().equals(InterceptionUtils.POST_CONSTRUCT)) {
                 return executeInterception(self, null, null, null, InterceptionType.POST_CONSTRUCT, stack);
@@ -49,6 +48,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             }
         } else {
             if (isInterceptorMethod(thisMethod)) {
+                SecurityActions.ensureAccessible(proceed);
                 return Reflections.invokeAndUnwrap(self, proceed, args);
             }
             return executeInterception(self, thisMethod, proceed, args, InterceptionType.AROUND_INVOKE, stack);
@@ -57,7 +57,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
+        CachedInterceptionChain chain = getInterceptionChain(instance, method, proceed, interceptionType);
         if (chain.interceptorMethods.isEmpty()) {
             // shortcut if there are no interceptors
             if (proceed == null) {
@@ -70,10 +70,12 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
+    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, Method proceed, InterceptionType interceptionType) {
         if (method != null) {
             CachedInterceptionChain cachedChain = cachedChains.get(method);
             if (cachedChain == null) {
+                // the proceed method is always the same instance for a given intercepted method so this only needs to be done once per chain
+                SecurityActions.ensureAccessible(proceed);
                 cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
                         .getMemberInterceptorBindings(method));
                 CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.interceptor.proxy;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -39,7 +40,11 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
  */
 public class SimpleInvocationContext implements InvocationContext {
 
-    private final Map<String, Object> contextData;
+    // created lazily as most interceptors never ask for the context data
+    private Map<String, Object> contextData;
+    // put into the context data once it is created if putInterceptorBindings is true, may be null
+    private final Set<Annotation> interceptorBindings;
+    private final boolean putInterceptorBindings;
     private final Method method;
     private final Method proceed;
     private Object[] parameters;
@@ -62,14 +67,23 @@ public class SimpleInvocationContext implements InvocationContext {
     }
 
     public SimpleInvocationContext(Object target, Method targetMethod, Method proceed, Object[] parameters) {
-        this(target, targetMethod, proceed, null, parameters, null, new HashMap<String, Object>());
+        this(target, targetMethod, proceed, null, parameters, null, null, null, false);
+    }
+
+    /**
+     * @param interceptorBindings the interceptor bindings which are put into the context data under the
+     *        {@link InterceptorMethodHandler#INTERCEPTOR_BINDINGS_KEY} key once the context data is requested, may be null
+     */
+    public SimpleInvocationContext(Object target, Method targetMethod, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings) {
+        this(target, targetMethod, proceed, null, parameters, null, null, interceptorBindings, true);
     }
 
     public SimpleInvocationContext(Constructor<?> constructor, Object[] parameters, Map<String, Object> contextData) {
-        this(null, null, null, constructor, parameters, null, contextData);
+        this(null, null, null, constructor, parameters, null, contextData, null, false);
     }
 
-    private SimpleInvocationContext(Object target, Method method, Method proceed, Constructor<?> constructor, Object[] parameters, Object timer, Map<String, Object> contextData) {
+    private SimpleInvocationContext(Object target, Method method, Method proceed, Constructor<?> constructor, Object[] parameters, Object timer, Map<String, Object> contextData,
+            Set<Annotation> interceptorBindings, boolean putInterceptorBindings) {
         this.target = target;
         this.method = method;
         this.proceed = proceed;
@@ -77,10 +91,18 @@ public class SimpleInvocationContext implements InvocationContext {
         this.parameters = parameters;
         this.timer = timer;
         this.contextData = contextData;
+        this.interceptorBindings = interceptorBindings;
+        this.putInterceptorBindings = putInterceptorBindings;
     }
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new HashMap<String, Object>();
+            if (putInterceptorBindings) {
+                contextData.put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+            }
+        }
         return contextData;
     }
 
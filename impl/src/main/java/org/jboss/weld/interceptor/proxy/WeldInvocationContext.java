@@ -59,19 +59,28 @@ public class WeldInvocationContext extends ForwardingInvocationContext implement
     }
 
     public WeldInvocationContext(Object target, Method targetMethod, Method proceed, Object[] parameters, List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(new SimpleInvocationContext(target, targetMethod, proceed, parameters), chain, interceptorBindings, currentHandler);
+        // the context data map is only allocated if an interceptor asks for it, SimpleInvocationContext puts the bindings into it then
+        // the bindings are put as they are, i.e. null if there are none, like when the context data is populated eagerly
+        this(new SimpleInvocationContext(target, targetMethod, proceed, parameters, interceptorBindings), chain, interceptorBindings, currentHandler, false);
     }
 
     public WeldInvocationContext(InvocationContext delegate, List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        this(delegate, chain, interceptorBindings, currentHandler, true);
+    }
+
+    private WeldInvocationContext(InvocationContext delegate, List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            boolean putInterceptorBindings) {
         this.delegate = delegate;
         this.chain = chain;
         this.currentHandler = currentHandler;
-        if (interceptorBindings == null) {
-            this.interceptorBindings = Collections.<Annotation>emptySet();
-        } else {
-            this.interceptorBindings = interceptorBindings;
+        this.interceptorBindings = nonNull(interceptorBindings);
+        if (putInterceptorBindings) {
+            getContextData().put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
         }
-        getContextData().put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+    }
+
+    private static Set<Annotation> nonNull(Set<Annotation> interceptorBindings) {
+        return interceptorBindings == null ? Collections.<Annotation>emptySet() : interceptorBindings;
     }
 
     @Override
@@ -17,10 +17,13 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
@@ -35,8 +38,12 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     protected final Map<InterceptionType, List<Method>> interceptorMethodMap;
 
+    // unbound method handles of the interceptor methods, only created if interceptor method handles are enabled
+    private final ConcurrentMap<InterceptionType, List<MethodHandle>> interceptorMethodHandles;
+
     public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
         this.interceptorMethodMap = interceptorMethodMap;
+        this.interceptorMethodHandles = new ConcurrentHashMap<InterceptionType, List<MethodHandle>>();
     }
 
     public List<Method> getInterceptorMethods(InterceptionType interceptionType) {
@@ -60,7 +67,28 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     @Override
     public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
-        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor());
+        return getInterceptorInvocation(interceptorInstance, interceptionType, false);
+    }
+
+    /**
+     * @param useMethodHandles if true, the interceptor methods are invoked through method handles bound to the interceptor instance. The
+     *        interceptor methods are only unreflected once, the resulting handles are bound to each interceptor instance.
+     * @see org.jboss.weld.config.ConfigurationKey#INTERCEPTOR_METHOD_HANDLES
+     */
+    public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType, boolean useMethodHandles) {
+        List<MethodHandle> methodHandles = null;
+        if (useMethodHandles) {
+            methodHandles = interceptorMethodHandles.get(interceptionType);
+            if (methodHandles == null) {
+                methodHandles = SimpleInterceptorInvocation.unreflect(getInterceptorMethods(interceptionType));
+                List<MethodHandle> previous = interceptorMethodHandles.putIfAbsent(interceptionType, methodHandles);
+                if (previous != null) {
+                    methodHandles = previous;
+                }
+            }
+        }
+        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor(),
+                methodHandles);
     }
 
     protected abstract boolean isTargetClassInterceptor();
@@ -17,6 +17,10 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -32,28 +36,69 @@ import org.jboss.weld.util.collections.ImmutableList;
  */
 class SimpleInterceptorInvocation implements InterceptorInvocation {
 
+    /**
+     * (Object interceptorInstance, InvocationContext invocationContext)Object
+     */
+    private static final MethodType UNBOUND_INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, InvocationContext.class);
+
     private final List<InterceptorMethodInvocation> interceptorMethodInvocations;
     private final Object instance;
     private final boolean targetClass;
     private final InterceptionType interceptionType;
 
     public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass) {
+        this(instance, interceptionType, interceptorMethods, targetClass, null);
+    }
+
+    /**
+     * @param methodHandles the unbound method handles of the interceptor methods created by {@link #unreflect(List)}, or null if reflection
+     *        is used to invoke the interceptor methods
+     */
+    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass,
+            List<MethodHandle> methodHandles) {
         this.instance = instance;
         this.interceptionType = interceptionType;
         this.targetClass = targetClass;
 
         if (interceptorMethods.size() == 1) {
             // Very often there will be only one interceptor method
-            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0)));
+            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(createMethodInvocation(interceptorMethods, methodHandles, 0));
         } else {
             ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
-            for (Method method : interceptorMethods) {
-                builder.add(new SimpleMethodInvocation(method));
+            for (int i = 0; i < interceptorMethods.size(); i++) {
+                builder.add(createMethodInvocation(interceptorMethods, methodHandles, i));
             }
             interceptorMethodInvocations = builder.build();
         }
     }
 
+    private InterceptorMethodInvocation createMethodInvocation(List<Method> methods, List<MethodHandle> methodHandles, int index) {
+        return methodHandles != null ? new MethodHandleMethodInvocation(methods.get(index), methodHandles.get(index))
+                : new SimpleMethodInvocation(methods.get(index));
+    }
+
+    /**
+     * Creates a method handle for each of the given interceptor methods. Each handle is adapted to the
+     * (Object interceptorInstance, InvocationContext invocationContext)Object type so that it only needs to be bound to an interceptor
+     * instance.
+     */
+    static List<MethodHandle> unreflect(List<Method> interceptorMethods) {
+        ImmutableList.Builder<MethodHandle> builder = ImmutableList.builder();
+        for (Method method : interceptorMethods) {
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (method.getParameterTypes().length == 0) {
+                    // lifecycle callbacks declared on the target class do not accept the InvocationContext
+                    handle = MethodHandles.dropArguments(handle, 1, InvocationContext.class);
+                }
+                builder.add(handle.asType(UNBOUND_INVOKER_TYPE));
+            } catch (IllegalAccessException e) {
+                throw new org.jboss.weld.exceptions.IllegalStateException(e);
+            }
+        }
+        return builder.build();
+    }
+
     @Override
     public List<InterceptorMethodInvocation> getInterceptorMethodInvocations() {
         return interceptorMethodInvocations;
@@ -82,4 +127,30 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
             return !targetClass || !interceptionType.isLifecycleCallback();
         }
     }
+
+    /**
+     * Invokes the interceptor method through a {@link MethodHandle} bound to the interceptor instance. This avoids the access checks and
+     * argument array of {@link Method#invoke(Object, Object...)}. The handle is not a constant so the JIT compiler does not inline the
+     * interceptor method through it.
+     */
+    class MethodHandleMethodInvocation extends SimpleMethodInvocation {
+
+        private final MethodHandle invoker;
+
+        MethodHandleMethodInvocation(Method method, MethodHandle unboundInvoker) {
+            super(method);
+            // (InvocationContext invocationContext)Object
+            this.invoker = unboundInvoker.bindTo(instance);
+        }
+
+        @Override
+        public Object invoke(InvocationContext invocationContext) throws Exception {
+            try {
+                return (Object) invoker.invokeExact(invocationContext);
+            } catch (Throwable e) {
+                // wrap the exception the same way reflection does so that it is unwrapped by WeldInvocationContext
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
 }
@@ -484,6 +484,30 @@ public interface BeanLogger extends WeldLogger {
     void beanCannotBeDumped(Object param1, @Cause Throwable cause);
 
     @LogMessage(level = Level.WARN)
-    @Message(id = 1558, value = "Unable to create directory {0} to dump the proxy classes.", format = Format.MESSAGE_FORMAT)
+    @Message(id = 1558, value = "Unable to create directory {0} to store the proxy classes.", format = Format.MESSAGE_FORMAT)
     void directoryCannotBeCreated(Object param1);
-}
\ No newline at end of file
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1559, value = "Loaded proxy class {0} from the proxy cache {1}", format = Format.MESSAGE_FORMAT)
+    void loadedProxyClassFromCache(Object param1, Object param2);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1560, value = "Unable to read the proxy class file {0} from the proxy cache", format = Format.MESSAGE_FORMAT)
+    void proxyClassCannotBeReadFromCache(Object param1, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1561, value = "Unable to store the proxy class file for {0} in the proxy cache", format = Format.MESSAGE_FORMAT)
+    void proxyClassCannotBeStoredInCache(Object param1, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1562, value = "The proxy class file {0} in the proxy cache does not match its checksum and is deleted", format = Format.MESSAGE_FORMAT)
+    void corruptedProxyClassInCache(Object param1);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1563, value = "Unable to define the proxy class stored in {0}, the file is deleted and the proxy class is generated again", format = Format.MESSAGE_FORMAT)
+    void proxyClassCannotBeDefinedFromCache(Object param1, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1564, value = "Unable to delete the proxy class file {0} from the proxy cache", format = Format.MESSAGE_FORMAT)
+    void proxyClassCannotBeDeletedFromCache(Object param1, @Cause Throwable cause);
+}
@@ -190,4 +190,12 @@ public interface BootstrapLogger extends WeldLogger {
 
     @Message(id = 144, value = "CDI API version mismatch. CDI 1.0 API detected on classpath. Weld requires version 1.1 or better.")
     IllegalStateException cdiApiVersionMismatch();
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 145, value = "Bootstrap profiler report written to {0}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfilerReportWritten(Object file);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 146, value = "Unable to write the bootstrap profiler report to {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteBootstrapProfilerReport(Object file, @Cause Throwable cause);
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -128,4 +129,16 @@ public interface ConversationLogger extends WeldLogger {
     @LogMessage(level = Level.WARN)
     @Message(id = 342, value = "Going to end a locked conversation with id {0}", format = Format.MESSAGE_FORMAT)
     void endLockedConversation(String cid);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 343, value = "Expired conversation {0} destroyed by the conversation reaper", format = Format.MESSAGE_FORMAT)
+    void conversationReaped(String cid);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 344, value = "Unable to destroy expired conversation {0}", format = Format.MESSAGE_FORMAT)
+    void unableToReapConversation(String cid, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 345, value = "Conversation {0} is not tracked by the conversation reaper anymore - the session was invalidated", format = Format.MESSAGE_FORMAT)
+    void conversationReaperSessionInvalidated(String cid, @Cause Throwable cause);
 }
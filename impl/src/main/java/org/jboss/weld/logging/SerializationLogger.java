@@ -38,4 +38,7 @@ public interface SerializationLogger extends WeldLogger {
     @Message(id = 1800, value = "Unable to get bean identifier at position {0} from {1}", format = Format.MESSAGE_FORMAT)
     IllegalStateException unableToGetBeanIdentifier(int index, BeanIdentifierIndex beanIdentifierIndex);
 
+    @Message(id = 1801, value = "Unable to restore a serialized bean identifier - the hash of the bean identifier index it was serialized with ({0}) does not match the local bean identifier index ({1}). Make sure all the nodes of the cluster run the same deployment.", format = Format.MESSAGE_FORMAT)
+    IllegalStateException beanIdentifierIndexInconsistencyDetected(int serializedIndexHash, int localIndexHash);
+
 }
\ No newline at end of file
@@ -371,7 +371,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.nameBasedResolver = new NameBasedResolver(this, createDynamicAccessibleIterable(beanTransform));
         this.weldELResolver = new WeldELResolver(this);
 
-        TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
+        TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(contextId, getServices().get(MetaAnnotationStore.class),
                 createDynamicAccessibleIterable(ObserverMethodTransform.INSTANCE), getServices().get(WeldConfiguration.class));
         this.accessibleLenientObserverNotifier = ObserverNotifier.of(contextId, accessibleObserverResolver, getServices(), false);
         GlobalObserverNotifierService globalObserverNotifierService = services.get(GlobalObserverNotifierService.class);
@@ -414,6 +414,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     public void addAccessibleBeanManager(BeanManagerImpl accessibleBeanManager) {
         accessibleManagers.add(accessibleBeanManager);
         beanResolver.clear();
+        nameBasedResolver.clear();
         interceptorResolver.clear();
         decoratorResolver.clear();
         accessibleLenientObserverNotifier.clear();
@@ -425,6 +426,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
     public void addBean(Bean<?> bean) {
         addBean(bean, enabledBeans, sharedBeans);
+        // the name index may have been built already, e.g. by an extension looking up a bean by name
+        nameBasedResolver.clear();
     }
 
     /**
@@ -440,6 +443,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         // optimize so that we do not modify CopyOnWriteLists for each Bean
         this.enabledBeans.addAll(beanList);
         this.sharedBeans.addAll(transitiveBeans);
+        this.nameBasedResolver.clear();
     }
 
     private void addBean(Bean<?> bean, List<Bean<?>> beanList, List<Bean<?>> transitiveBeans) {
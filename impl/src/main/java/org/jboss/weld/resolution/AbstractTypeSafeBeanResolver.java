@@ -17,17 +17,10 @@
 package org.jboss.weld.resolution;
 
 import java.io.Serializable;
-import java.lang.reflect.GenericArrayType;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -43,12 +36,9 @@ import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.LazyValueHolder;
-import org.jboss.weld.util.Primitives;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableSet;
-import org.jboss.weld.util.collections.WeldCollections;
-import org.jboss.weld.util.reflection.Reflections;
 
 /**
  * @author pmuir
@@ -61,7 +51,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final SpecializationAndEnablementRegistry registry;
     private final MetaAnnotationStore store;
 
-    private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
+    private final LazyValueHolder<BeanIndex<T>> beanIndex;
 
     public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
@@ -134,59 +124,19 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
         this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
-        // beansByType stores a map of a type to all beans that are assignable to
-        // that type. This means that it most cases we do not need to loop through
-        // every bean in the system when performing resolution
+        // beanIndex maps raw types, type argument shapes and qualifiers to beans.
+        // This means that in most cases we do not need to loop through every
+        // bean in the system when performing resolution
 
-        // we build this map lazily, as we do not have access to all beans when
+        // we build the index lazily, as we do not have access to all beans when
         // the resolver is created. Calling the resolvers clear method will also
-        // clear this map.This task is not suitable for a computing hashmap, as
-        // the whole map should be calculated in one hit, so only a single
+        // clear the index. This task is not suitable for a computing hashmap, as
+        // the whole index should be calculated in one hit, so only a single
         // iteration over all beans is required
-
-        this.beansByType = new LazyValueHolder<Map<Type, ArrayList<T>>>() {
-
+        this.beanIndex = new LazyValueHolder<BeanIndex<T>>() {
             @Override
-            protected Map<Type, ArrayList<T>> computeValue() {
-                Map<Type, ArrayList<T>> map = new HashMap<Type, ArrayList<T>>();
-                for (T bean : beans) {
-                    mapBean(map, bean);
-                }
-                trimArrayListsToSize(map);
-                return WeldCollections.immutableMapView(map);
-            }
-
-            private void mapBean(Map<Type, ArrayList<T>> map, T bean) {
-                for (Type type : bean.getTypes()) {
-                    mapTypeToBean(map, type, bean);
-
-                    if (type instanceof ParameterizedType) {
-                        // we need to add the raw type as well
-                        Type rawType = ((ParameterizedType) type).getRawType();
-                        mapTypeToBean(map, rawType, bean);
-                    } else if (type instanceof Class<?>) {
-                        // if the type is a primitive we also need to add the bean
-                        // is also resolvable from the boxed class
-                        Class<?> clazz = (Class<?>) type;
-                        if (clazz.isPrimitive()) {
-                            Class<?> wrapped = Primitives.wrap(clazz);
-                            mapTypeToBean(map, wrapped, bean);
-                        }
-                    }
-                }
-            }
-
-            private void mapTypeToBean(Map<Type, ArrayList<T>> map, Type type, T bean) {
-                if (!map.containsKey(type)) {
-                    map.put(type, new ArrayList<T>());
-                }
-                map.get(type).add(bean);
-            }
-
-            private void trimArrayListsToSize(Map<Type, ArrayList<T>> map) {
-                for (Entry<Type, ArrayList<T>> entry : map.entrySet()) {
-                    entry.getValue().trimToSize();
-                }
+            protected BeanIndex<T> computeValue() {
+                return new BeanIndex<T>(beans, store);
             }
         };
     }
@@ -205,36 +155,24 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
 
     @Override
     protected Iterable<? extends T> getAllBeans(Resolvable resolvable) {
+        BeanIndex<T> index = beanIndex.get();
+        // a bean needs to have all the required qualifiers so we can narrow down the candidates using any of them
+        Set<T> qualifiedBeans = index.getQualifiedBeans(resolvable.getQualifiers());
         if (resolvable.getTypes().contains(Object.class) || Instance.class.equals(resolvable.getJavaClass()) || Event.class.equals(resolvable.getJavaClass()) || Provider.class.equals(resolvable.getJavaClass()) || resolvable.getTypes().contains(Serializable.class)) {
-            return super.getAllBeans(resolvable);
+            return qualifiedBeans != null ? qualifiedBeans : super.getAllBeans(resolvable);
         }
+        // type arguments are not used to narrow down delegate injection points as different assignability rules apply
+        boolean narrowByTypeArguments = !resolvable.isDelegate();
         Set<T> beans = new HashSet<T>();
         for (Type type : resolvable.getTypes()) {
-            beans.addAll(getBeans(type));
-            if (type instanceof ParameterizedType) {
-                // we also need to consider the raw type
-                Type rawType = ((ParameterizedType) type).getRawType();
-                beans.addAll(getBeans(rawType));
-            } else if (type instanceof Class<?>) {
-                // primitives
-                Class<?> clazz = (Class<?>) type;
-                if (clazz.isPrimitive()) {
-                    clazz = Primitives.wrap(clazz);
-                    beans.addAll(getBeans(clazz));
-                }
-            } else if (type instanceof GenericArrayType) {
-                Class<Object> rawArrayType = Reflections.getRawType(type);
-                beans.addAll(getBeans(rawArrayType));
-            }
+            index.addCandidates(type, narrowByTypeArguments, beans);
+        }
+        if (qualifiedBeans != null && !beans.isEmpty()) {
+            beans.retainAll(qualifiedBeans);
         }
         return beans;
     }
 
-    private List<T> getBeans(Type type) {
-        List<T> beansForType = beansByType.get().get(type);
-        return beansForType == null ? Collections.<T>emptyList() : beansForType;
-    }
-
     /**
      * @return the manager
      */
@@ -265,7 +203,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     public void clear() {
         super.clear();
         this.disambiguatedBeans.clear();
-        this.beansByType.clear();
+        this.beanIndex.clear();
     }
 
     MetaAnnotationStore getStore() {
@@ -0,0 +1,201 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.util.Primitives;
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * An immutable index of beans which is used to narrow down the set of candidate beans before the assignability rules are
+ * applied. The index is built in a single iteration over all the beans and is never modified afterwards.
+ *
+ * <p>
+ * Beans are indexed by:
+ * </p>
+ * <ul>
+ * <li>the raw type of each bean type (primitive types are boxed),</li>
+ * <li>the raw type of the first type argument of each parameterized bean type (the "shape" of the type),</li>
+ * <li>each qualifier of the bean.</li>
+ * </ul>
+ *
+ * <p>
+ * The index never filters out a bean which may be assignable - the candidate sets are always supersets of the final resolution
+ * result. Beans whose type arguments cannot be narrowed down (raw types, type variables, arrays) are always considered
+ * candidates for a given raw type.
+ * </p>
+ * @see AbstractTypeSafeBeanResolver
+ */
+final class BeanIndex<T extends Bean<?>> {
+
+    private final Map<Type, RawTypeBucket<T>> beansByRawType;
+    private final Map<QualifierInstance, Set<T>> beansByQualifier;
+
+    BeanIndex(Iterable<? extends T> beans, MetaAnnotationStore store) {
+        Map<Type, RawTypeBucket<T>> beansByRawType = new HashMap<Type, RawTypeBucket<T>>();
+        Map<QualifierInstance, Set<T>> beansByQualifier = new HashMap<QualifierInstance, Set<T>>();
+        for (T bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Type key = getIndexKey(type);
+                RawTypeBucket<T> bucket = beansByRawType.get(key);
+                if (bucket == null) {
+                    bucket = new RawTypeBucket<T>();
+                    beansByRawType.put(key, bucket);
+                }
+                bucket.add(type, bean);
+            }
+            for (QualifierInstance qualifier : QualifierInstance.of(bean, store)) {
+                Set<T> qualified = beansByQualifier.get(qualifier);
+                if (qualified == null) {
+                    qualified = new HashSet<T>();
+                    beansByQualifier.put(qualifier, qualified);
+                }
+                qualified.add(bean);
+            }
+        }
+        for (RawTypeBucket<T> bucket : beansByRawType.values()) {
+            bucket.trimToSize();
+        }
+        this.beansByRawType = beansByRawType;
+        this.beansByQualifier = beansByQualifier;
+    }
+
+    /**
+     * Adds all the beans which may possibly be assignable to the given required type to the given set.
+     *
+     * @param requiredType the required type
+     * @param narrowByTypeArguments if false, only the raw type is used to narrow down the candidates
+     * @param candidates the set the candidates are added to
+     */
+    void addCandidates(Type requiredType, boolean narrowByTypeArguments, Set<T> candidates) {
+        RawTypeBucket<T> bucket = beansByRawType.get(getIndexKey(requiredType));
+        if (bucket == null) {
+            return;
+        }
+        Class<?> shape = narrowByTypeArguments ? getShape(requiredType) : null;
+        if (shape == null) {
+            candidates.addAll(bucket.all);
+        } else {
+            candidates.addAll(bucket.open);
+            List<T> shaped = bucket.byShape.get(shape);
+            if (shaped != null) {
+                candidates.addAll(shaped);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest set of beans which have at least one of the given qualifiers. Since a bean needs to have all the
+     * required qualifiers, any of these sets is a superset of the beans that satisfy the required qualifiers.
+     *
+     * @param requiredQualifiers the required qualifiers
+     * @return the smallest qualifier bucket, an empty set if none of the beans has some of the qualifiers or null if no
+     *         qualifiers are required
+     */
+    Set<T> getQualifiedBeans(Set<QualifierInstance> requiredQualifiers) {
+        Set<T> smallest = null;
+        for (QualifierInstance qualifier : requiredQualifiers) {
+            Set<T> qualified = beansByQualifier.get(qualifier);
+            if (qualified == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || qualified.size() < smallest.size()) {
+                smallest = qualified;
+            }
+        }
+        return smallest;
+    }
+
+    private static Type getIndexKey(Type type) {
+        if (type instanceof Class<?>) {
+            // primitive bean types are also resolvable from the boxed class
+            Class<?> clazz = (Class<?>) type;
+            return clazz.isPrimitive() ? Primitives.wrap(clazz) : clazz;
+        }
+        if (type instanceof ParameterizedType) {
+            return ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> rawType = Reflections.getRawType(type);
+            if (rawType != null) {
+                return rawType;
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Returns the raw type of the first type argument of a parameterized type, if it is an actual type other than an array.
+     * Otherwise returns null which means that the type cannot be used to narrow down the candidates.
+     */
+    private static Class<?> getShape(Type type) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (arguments.length > 0 && Types.isActualType(arguments[0]) && !Types.isArray(arguments[0])) {
+                return Reflections.getRawType(arguments[0]);
+            }
+        }
+        return null;
+    }
+
+    private static class RawTypeBucket<T> {
+
+        // all the beans with the given raw type
+        private final ArrayList<T> all = new ArrayList<T>();
+        // beans whose type cannot be narrowed down by type arguments - these are candidates for any required type
+        private final ArrayList<T> open = new ArrayList<T>();
+        // beans indexed by the raw type of the first type argument
+        private final Map<Class<?>, ArrayList<T>> byShape = new HashMap<Class<?>, ArrayList<T>>();
+
+        private void add(Type type, T bean) {
+            all.add(bean);
+            Class<?> shape = getShape(type);
+            if (shape == null) {
+                open.add(bean);
+            } else {
+                ArrayList<T> shaped = byShape.get(shape);
+                if (shaped == null) {
+                    shaped = new ArrayList<T>();
+                    byShape.put(shape, shaped);
+                }
+                shaped.add(bean);
+            }
+        }
+
+        private void trimToSize() {
+            all.trimToSize();
+            open.trimToSize();
+            for (ArrayList<T> shaped : byShape.values()) {
+                shaped.trimToSize();
+            }
+        }
+    }
+}
@@ -16,7 +16,10 @@
  */
 package org.jboss.weld.resolution;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -25,48 +28,72 @@ import javax.enterprise.inject.spi.Bean;
 import org.jboss.weld.bootstrap.SpecializationAndEnablementRegistry;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 
 /**
- * Implementation of name based bean resolution
+ * Implementation of name based bean resolution.
+ *
+ * <p>
+ * Beans are indexed by name in a single iteration over all the beans. A name which does not belong to any bean is rejected by a single
+ * lookup in the index and is never cached. Therefore, the cache of resolved names is bounded by the number of bean names no matter how
+ * many different names are looked up, e.g. by an EL resolver.
+ * </p>
  *
  * @author Pete Muir
  */
 public class NameBasedResolver {
 
-    private static class NameToBeanSet implements Function<String, Set<Bean<?>>> {
+    private class NameToBeanSet implements Function<String, Set<Bean<?>>> {
 
         private final BeanManagerImpl beanManager;
-        private final Iterable<? extends Bean<?>> allBeans;
         private final SpecializationAndEnablementRegistry registry;
 
-        private NameToBeanSet(BeanManagerImpl beanManager, Iterable<? extends Bean<?>> allBeans) {
+        private NameToBeanSet(BeanManagerImpl beanManager) {
             this.beanManager = beanManager;
-            this.allBeans = allBeans;
             this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
         }
 
         public Set<Bean<?>> apply(String from) {
-            Set<Bean<?>> matchedBeans = new HashSet<Bean<?>>();
-            for (Bean<?> bean : allBeans) {
-                if ((bean.getName() == null && from == null) || (bean.getName() != null && bean.getName().equals(from))) {
-                    matchedBeans.add(bean);
-                }
+            Set<Bean<?>> namedBeans = beansByName.get().get(from);
+            if (namedBeans == null) {
+                return Collections.emptySet();
             }
-            return Beans.removeDisabledBeans(matchedBeans, beanManager, registry);
+            return Beans.removeDisabledBeans(new HashSet<Bean<?>>(namedBeans), beanManager, registry);
         }
 
     }
 
+    // The beans indexed by name, beans without a name are stored under the null key
+    private final LazyValueHolder<Map<String, Set<Bean<?>>>> beansByName;
+
     // The resolved names
-    private ComputingCache<String, Set<Bean<?>>> resolvedNames;
+    private final ComputingCache<String, Set<Bean<?>>> resolvedNames;
 
     /**
      * Constructor
      */
-    public NameBasedResolver(BeanManagerImpl manager, Iterable<? extends Bean<?>> allBeans) {
-        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager, allBeans));
+    public NameBasedResolver(BeanManagerImpl manager, final Iterable<? extends Bean<?>> allBeans) {
+        // we build the index lazily, as we do not have access to all beans when
+        // the resolver is created. Calling the resolvers clear method will also
+        // clear the index
+        this.beansByName = new LazyValueHolder<Map<String, Set<Bean<?>>>>() {
+            @Override
+            protected Map<String, Set<Bean<?>>> computeValue() {
+                Map<String, Set<Bean<?>>> beansByName = new HashMap<String, Set<Bean<?>>>();
+                for (Bean<?> bean : allBeans) {
+                    Set<Bean<?>> namedBeans = beansByName.get(bean.getName());
+                    if (namedBeans == null) {
+                        namedBeans = new HashSet<Bean<?>>();
+                        beansByName.put(bean.getName(), namedBeans);
+                    }
+                    namedBeans.add(bean);
+                }
+                return beansByName;
+            }
+        };
+        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager));
     }
 
     /**
@@ -75,6 +102,7 @@ public class NameBasedResolver {
      */
     public void clear() {
         this.resolvedNames.clear();
+        this.beansByName.clear();
     }
 
     /**
@@ -84,9 +112,23 @@ public class NameBasedResolver {
      * @return The set of matching beans
      */
     public Set<Bean<?>> resolve(final String name) {
+        if (!isBeanName(name)) {
+            // do not let names which do not belong to any bean grow the cache
+            return Collections.emptySet();
+        }
         return resolvedNames.getValue(name);
     }
 
+    /**
+     * Indicates whether there is at least one bean with the given name. Disabled beans are not filtered out.
+     *
+     * @param name The name to match
+     * @return true if there might be a bean with the given name, false otherwise
+     */
+    public boolean isBeanName(String name) {
+        return beansByName.get().containsKey(name);
+    }
+
     /**
      * Gets a string representation
      *
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * An immutable index of observer methods which is used to narrow down the set of candidate observer methods before the assignability
+ * rules are applied. The index is built in a single iteration over all the observer methods and is never modified afterwards.
+ *
+ * <p>
+ * Observer methods are indexed by the raw observed type (primitive types are boxed) and by the class of one of the observed qualifiers.
+ * Since an event type is only assignable to an observed type with the same raw type, only the observer methods indexed under the raw
+ * types of the event type closure need to be considered. Observer methods whose observed type is an array or a type variable are
+ * always considered candidates.
+ * </p>
+ *
+ * <p>
+ * The observed qualifiers of each observer method are resolved to {@link QualifierInstance}s when the index is built.
+ * </p>
+ * @see TypeSafeObserverResolver
+ */
+final class ObserverIndex {
+
+    private final Map<Class<?>, QualifierBucket> observersByRawType;
+    // observer methods whose observed type cannot be narrowed down to a raw type
+    private final QualifierBucket open;
+    private final Map<ObserverMethod<?>, Set<QualifierInstance>> qualifiers;
+
+    ObserverIndex(Iterable<? extends ObserverMethod<?>> observers, MetaAnnotationStore store) {
+        Map<Class<?>, QualifierBucket> observersByRawType = new HashMap<Class<?>, QualifierBucket>();
+        QualifierBucket open = new QualifierBucket();
+        Map<ObserverMethod<?>, Set<QualifierInstance>> qualifiers = new IdentityHashMap<ObserverMethod<?>, Set<QualifierInstance>>();
+        for (ObserverMethod<?> observer : observers) {
+            Set<QualifierInstance> observedQualifiers = QualifierInstance.of(observer.getObservedQualifiers(), store);
+            qualifiers.put(observer, observedQualifiers);
+            Class<?> key = getIndexKey(observer.getObservedType());
+            if (key == null) {
+                open.add(observer, observedQualifiers);
+            } else {
+                QualifierBucket bucket = observersByRawType.get(key);
+                if (bucket == null) {
+                    bucket = new QualifierBucket();
+                    observersByRawType.put(key, bucket);
+                }
+                bucket.add(observer, observedQualifiers);
+            }
+        }
+        for (QualifierBucket bucket : observersByRawType.values()) {
+            bucket.trimToSize();
+        }
+        open.trimToSize();
+        this.observersByRawType = observersByRawType;
+        this.open = open;
+        this.qualifiers = qualifiers;
+    }
+
+    /**
+     * Returns the observer methods which may possibly observe an event with the given types and qualifiers.
+     *
+     * @param eventTypes the event type closure
+     * @param eventQualifiers the event qualifiers
+     * @return the candidate observer methods
+     */
+    List<ObserverMethod<?>> getCandidates(Set<Type> eventTypes, Set<QualifierInstance> eventQualifiers) {
+        List<ObserverMethod<?>> candidates = new ArrayList<ObserverMethod<?>>();
+        open.addCandidates(eventQualifiers, candidates);
+        for (Type eventType : eventTypes) {
+            QualifierBucket bucket = observersByRawType.get(Reflections.getRawType(Types.boxedType(eventType)));
+            if (bucket != null) {
+                bucket.addCandidates(eventQualifiers, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @param observer the observer method
+     * @return the resolved observed qualifiers of the given observer method or null if the observer method is not indexed
+     */
+    Set<QualifierInstance> getQualifiers(ObserverMethod<?> observer) {
+        return qualifiers.get(observer);
+    }
+
+    /**
+     * Returns the raw observed type or null if the observed type cannot be used to narrow down the candidates.
+     */
+    private static Class<?> getIndexKey(Type observedType) {
+        Type type = Types.boxedType(observedType);
+        if (Types.isArray(type)) {
+            // array event types match observed arrays of any supertype of the component type
+            return null;
+        }
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return Reflections.getRawType(type);
+        }
+        // type variables are matched against their bounds
+        return null;
+    }
+
+    private static class QualifierBucket {
+
+        // observer methods without observed qualifiers - these are candidates for any event qualifiers
+        private final ArrayList<ObserverMethod<?>> unqualified = new ArrayList<ObserverMethod<?>>();
+        // observer methods indexed by the class of the first observed qualifier
+        private final Map<Class<? extends Annotation>, ArrayList<ObserverMethod<?>>> byQualifier = new HashMap<Class<? extends Annotation>, ArrayList<ObserverMethod<?>>>();
+
+        private void add(ObserverMethod<?> observer, Set<QualifierInstance> observedQualifiers) {
+            if (observedQualifiers.isEmpty()) {
+                unqualified.add(observer);
+            } else {
+                // an event needs to have all the observed qualifiers so any of them may be used as the key
+                Class<? extends Annotation> key = observedQualifiers.iterator().next().getAnnotationClass();
+                ArrayList<ObserverMethod<?>> qualified = byQualifier.get(key);
+                if (qualified == null) {
+                    qualified = new ArrayList<ObserverMethod<?>>();
+                    byQualifier.put(key, qualified);
+                }
+                qualified.add(observer);
+            }
+        }
+
+        private void addCandidates(Set<QualifierInstance> eventQualifiers, List<ObserverMethod<?>> candidates) {
+            candidates.addAll(unqualified);
+            if (!byQualifier.isEmpty()) {
+                for (QualifierInstance qualifier : eventQualifiers) {
+                    List<ObserverMethod<?>> qualified = byQualifier.get(qualifier.getAnnotationClass());
+                    if (qualified != null) {
+                        candidates.addAll(qualified);
+                    }
+                }
+            }
+        }
+
+        private void trimToSize() {
+            unqualified.trimToSize();
+            for (ArrayList<ObserverMethod<?>> qualified : byQualifier.values()) {
+                qualified.trimToSize();
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.ObserverMethod;
 
+import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ExtensionObserverMethodImpl;
@@ -35,6 +36,7 @@ import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.experimental.ExperimentalObserverMethod;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.reflection.Reflections;
 
@@ -59,11 +61,36 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
 
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
+    private final LazyValueHolder<ObserverIndex> observerIndex;
 
-    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration) {
+    public TypeSafeObserverResolver(final String contextId, final MetaAnnotationStore metaAnnotationStore, final Iterable<ObserverMethod<?>> observers,
+            WeldConfiguration configuration) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
         this.rules = EventTypeAssignabilityRules.instance();
+        // observerIndex maps raw observed types and qualifier classes to observer methods so that
+        // only the relevant observer methods are matched against an event.
+
+        // Observer methods are added until the beans are deployed. Until then, the observer methods
+        // are iterated for each resolution. Once the container is available, the index is built in
+        // a single iteration over all observer methods. Calling the resolvers clear method will
+        // also clear the index.
+        this.observerIndex = new LazyValueHolder<ObserverIndex>() {
+            @Override
+            protected ObserverIndex computeValue() {
+                // null means that the index is not built yet
+                return Container.available(contextId) ? new ObserverIndex(observers, metaAnnotationStore) : null;
+            }
+        };
+    }
+
+    @Override
+    protected Iterable<? extends ObserverMethod<?>> getAllBeans(Resolvable resolvable) {
+        ObserverIndex index = observerIndex.get();
+        if (index == null) {
+            return super.getAllBeans(resolvable);
+        }
+        return index.getCandidates(resolvable.getTypes(), resolvable.getQualifiers());
     }
 
     @Override
@@ -71,7 +98,7 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         if (!rules.matches(observer.getObservedType(), resolvable.getTypes())) {
             return false;
         }
-        if (!Beans.containsAllQualifiers(QualifierInstance.of(observer.getObservedQualifiers(), metaAnnotationStore), resolvable.getQualifiers())) {
+        if (!Beans.containsAllQualifiers(getObservedQualifiers(observer), resolvable.getQualifiers())) {
             return false;
         }
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
@@ -87,6 +114,17 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         return true;
     }
 
+    private Set<QualifierInstance> getObservedQualifiers(ObserverMethod<?> observer) {
+        ObserverIndex index = observerIndex.getIfPresent();
+        if (index != null) {
+            Set<QualifierInstance> qualifiers = index.getQualifiers(observer);
+            if (qualifiers != null) {
+                return qualifiers;
+            }
+        }
+        return QualifierInstance.of(observer.getObservedQualifiers(), metaAnnotationStore);
+    }
+
     protected boolean isContainerLifecycleEvent(Resolvable resolvable) {
         for (Type type : resolvable.getTypes()) {
             if (Observers.CONTAINER_LIFECYCLE_EVENT_TYPES.contains(Reflections.getRawType(type))) {
@@ -113,6 +151,12 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         return ResolvedObservers.of(cast(result));
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        this.observerIndex.clear();
+    }
+
     public MetaAnnotationStore getMetaAnnotationStore() {
         return metaAnnotationStore;
     }
@@ -28,6 +28,7 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.WeldCollections;
 
@@ -65,7 +66,8 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
-        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .setEvictionPolicy(EvictionPolicy.CLOCK).build(resolverFunction);
         this.allBeans = allBeans;
     }
 
@@ -152,6 +154,8 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         StringBuilder sb = new StringBuilder();
         sb.append("Resolver\n");
         sb.append("Resolved injection points: ").append(resolved.size()).append('\n');
+        sb.append("Cache hits: ").append(resolved.getHitCount()).append(", misses: ").append(resolved.getMissCount()).append(", evictions: ")
+                .append(resolved.getEvictionCount()).append('\n');
         return sb.toString();
     }
 }
@@ -19,6 +19,7 @@ package org.jboss.weld.serialization;
 import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 
@@ -38,23 +39,43 @@ public class BeanHolder<T> extends AbstractSerializableHolder<Bean<T>> {
     }
 
     private final String contextId;
+    // Either the bean identifier or its position in the bean identifier index is used, the position is null if serialized by an older version
     private final BeanIdentifier beanId;
+    private final Integer beanIdIndex;
+    private final Integer indexHash;
 
     public BeanHolder(String contextId, Bean<T> bean) {
         super(bean);
         this.contextId = contextId;
         if (bean == null) {
             beanId = null;
+            beanIdIndex = null;
+            indexHash = null;
         } else {
-            beanId = Container.instance(contextId).services().get(ContextualStore.class).putIfAbsent(bean);
+            ServiceRegistry services = Container.instance(contextId).services();
+            BeanIdentifier id = services.get(ContextualStore.class).putIfAbsent(bean);
+            BeanIdentifierIndex index = services.get(BeanIdentifierIndex.class);
+            beanIdIndex = index.getCompactIndex(id);
+            if (beanIdIndex == null) {
+                beanId = id;
+                indexHash = null;
+            } else {
+                beanId = null;
+                indexHash = index.getIndexHash();
+            }
         }
     }
 
     @Override
     protected Bean<T> initialize() {
-        if (beanId == null) {
+        ServiceRegistry services = Container.instance(contextId).services();
+        BeanIdentifier id = beanId;
+        if (beanIdIndex != null) {
+            id = services.get(BeanIdentifierIndex.class).getIdentifier(beanIdIndex, indexHash);
+        }
+        if (id == null) {
             return null;
         }
-        return Container.instance(contextId).services().get(ContextualStore.class).<Bean<T>, T> getContextual(beanId);
+        return services.get(ContextualStore.class).<Bean<T>, T> getContextual(id);
     }
 }
@@ -40,14 +40,36 @@ import org.jboss.weld.util.collections.ImmutableMap;
  * The index holds identifiers for the specified set of beans (note that only instances of {@link CommonBean} and implementations of {@link PassivationCapable}
  * are included). Identifiers are sorted into ascending order, according to the {@link BeanIdentifier#asString()} natural ordering.
  *
+ * <p>
+ * The index also computes a hash of its contents. A position serialized together with the hash may only be resolved by an index with the same
+ * hash, i.e. an index built from the same set of beans.
+ * </p>
+ *
  * @author Martin Kouba
+ * @see org.jboss.weld.config.ConfigurationKey#COMPACT_SERIALIZATION
  */
 public class BeanIdentifierIndex implements Service {
 
+    private final boolean compactSerialization;
+
     private volatile BeanIdentifier[] index;
 
     private volatile Map<BeanIdentifier, Integer> reverseIndex;
 
+    private volatile int indexHash;
+
+    public BeanIdentifierIndex() {
+        this(false);
+    }
+
+    /**
+     *
+     * @param compactSerialization if true, Weld serializable wrappers should store the positions instead of the identifiers
+     */
+    public BeanIdentifierIndex(boolean compactSerialization) {
+        this.compactSerialization = compactSerialization;
+    }
+
     /**
      *
      * @param identifier
@@ -72,6 +94,46 @@ public class BeanIdentifierIndex implements Service {
         return index[idx];
     }
 
+    /**
+     *
+     * @param idx the position
+     * @param indexHash the hash of the index the position was obtained from
+     * @return the identifier at the specified position
+     * @throws IllegalStateException if the index hash does not match the hash of this index
+     */
+    public BeanIdentifier getIdentifier(int idx, int indexHash) {
+        checkIsBuilt();
+        if (indexHash != this.indexHash) {
+            throw SerializationLogger.LOG.beanIdentifierIndexInconsistencyDetected(indexHash, this.indexHash);
+        }
+        return getIdentifier(idx);
+    }
+
+    /**
+     * Returns the position which should be serialized instead of the given identifier. Note that the position has to be serialized together with the
+     * {@link #getIndexHash()}.
+     *
+     * @param identifier
+     * @return the position for the given bean identifier or null if compact serialization is disabled, the index is not built yet or the index does not
+     *         contain the given identifier
+     * @see #getIdentifier(int, int)
+     */
+    public Integer getCompactIndex(BeanIdentifier identifier) {
+        if (!compactSerialization || !isBuilt() || identifier == null) {
+            return null;
+        }
+        return reverseIndex.get(identifier);
+    }
+
+    /**
+     *
+     * @return the hash of the index contents
+     */
+    public int getIndexHash() {
+        checkIsBuilt();
+        return indexHash;
+    }
+
     /**
      * Note that the index can only be built once.
      *
@@ -86,8 +148,9 @@ public class BeanIdentifierIndex implements Service {
         }
 
         if (beans.isEmpty()) {
-            index = new BeanIdentifier[0];
             reverseIndex = Collections.emptyMap();
+            indexHash = 1;
+            index = new BeanIdentifier[0];
             return;
         }
 
@@ -108,13 +171,18 @@ public class BeanIdentifierIndex implements Service {
             }
         });
 
-        index = tempIndex.toArray(new BeanIdentifier[tempIndex.size()]);
+        BeanIdentifier[] tempArray = tempIndex.toArray(new BeanIdentifier[tempIndex.size()]);
 
         ImmutableMap.Builder<BeanIdentifier, Integer> builder = ImmutableMap.builder();
-        for (int i = 0; i < index.length; i++) {
-            builder.put(index[i], i);
+        int hash = 1;
+        for (int i = 0; i < tempArray.length; i++) {
+            builder.put(tempArray[i], i);
+            hash = 31 * hash + tempArray[i].asString().hashCode();
         }
         reverseIndex = builder.build();
+        indexHash = hash;
+        // the index field is assigned last as it signals that the index is built
+        index = tempArray;
     }
 
     /**
@@ -138,7 +206,7 @@ public class BeanIdentifierIndex implements Service {
 
     @Override
     public String toString() {
-        return String.format("BeanIdentifierIndex [index=%s]", Arrays.toString(index));
+        return String.format("BeanIdentifierIndex [hash=%s, index=%s]", indexHash, Arrays.toString(index));
     }
 
 }
\ No newline at end of file
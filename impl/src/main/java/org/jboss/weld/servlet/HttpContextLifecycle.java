@@ -151,7 +151,8 @@ public class HttpContextLifecycle implements Service {
         deactivateSessionDestructionContext(session);
         boolean destroyed = getSessionContext().destroy(session);
         SessionHolder.clear();
-        RequestScopedCache.endRequest();
+        // the cache is ended by the request context, if any
+        RequestScopedCache.invalidate();
         if (destroyed) {
             // we are outside of a request (the session timed out) and therefore the session was destroyed immediately
             // we can fire the @Destroyed(SessionScoped.class) event immediately
@@ -82,16 +82,28 @@ public class ClassFileUtils {
      *               default domain created by <code>java.lang.ClassLoader</code> is
      */
     public static Class<?> toClass(ClassFile ct, ClassLoader loader, ProtectionDomain domain) {
+        return toClass(ct.getName(), ct.toBytecode(), loader, domain);
+    }
+
+    /**
+     * Defines a class from the given bytecode, e.g. a class previously generated and stored by Weld.
+     *
+     * @param name the binary name of the class
+     * @param b the bytecode of the class
+     * @param loader the class loader used to load the class
+     * @param domain the protection domain for the class, may be null
+     * @see #toClass(ClassFile, ClassLoader, ProtectionDomain)
+     */
+    public static Class<?> toClass(String name, byte[] b, ClassLoader loader, ProtectionDomain domain) {
         try {
-            byte[] b = ct.toBytecode();
             java.lang.reflect.Method method;
             Object[] args;
             if (domain == null) {
                 method = defineClass1;
-                args = new Object[]{ct.getName(), b, 0, b.length};
+                args = new Object[]{name, b, 0, b.length};
             } else {
                 method = defineClass2;
-                args = new Object[]{ct.getName(), b, 0, b.length, domain};
+                args = new Object[]{name, b, 0, b.length, domain};
             }
 
             return toClass2(method, loader, args);
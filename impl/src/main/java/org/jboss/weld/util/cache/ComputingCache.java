@@ -67,6 +67,24 @@ public interface ComputingCache<K, V> {
      */
     void invalidate(Object key);
 
+    /**
+     *
+     * @return the number of lookups which found a cached value, statistics are only recorded for bounded caches
+     */
+    long getHitCount();
+
+    /**
+     *
+     * @return the number of lookups which resulted in a computation, statistics are only recorded for bounded caches
+     */
+    long getMissCount();
+
+    /**
+     *
+     * @return the number of entries removed because the cache exceeded its maximum size
+     */
+    long getEvictionCount();
+
     /**
      *
      * @return an immutable map of entries
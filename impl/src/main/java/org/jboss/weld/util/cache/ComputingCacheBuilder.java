@@ -19,6 +19,7 @@ package org.jboss.weld.util.cache;
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
 
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +34,8 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private EvictionPolicy evictionPolicy = EvictionPolicy.CLEAR;
+
     private ComputingCacheBuilder() {
     }
 
@@ -54,6 +57,19 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * Determines which entries are removed once the cache exceeds the maximum size. {@link EvictionPolicy#CLEAR} is used by
+     * default.
+     *
+     * @param evictionPolicy
+     * @return self
+     * @see #setMaxSize(long)
+     */
+    public ComputingCacheBuilder setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
     /**
      * Values stored in the cache should be wrapped in a {@link WeakReference}.
      *
@@ -71,8 +87,8 @@ public final class ComputingCacheBuilder {
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
         if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize, evictionPolicy);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, LazyValueHolder::forSupplier, maxSize, evictionPolicy);
     }
 }
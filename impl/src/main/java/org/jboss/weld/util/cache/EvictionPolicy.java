@@ -0,0 +1,36 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+/**
+ * Determines what happens if a bounded {@link ComputingCache} exceeds its maximum size.
+ * @see ComputingCacheBuilder#setEvictionPolicy(EvictionPolicy)
+ */
+public enum EvictionPolicy {
+
+    /**
+     * All the entries are removed at once.
+     */
+    CLEAR,
+
+    /**
+     * Entries are removed using the CLOCK (second chance) algorithm until the cache fits its maximum size again. An entry which
+     * was accessed since the clock hand passed it last time is skipped once. This only approximates removing the least
+     * recently used entries but a cache hit only needs to set a flag.
+     */
+    CLOCK
+}
@@ -21,6 +21,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,14 +47,29 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
 
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
+    // statistics are only recorded for bounded caches
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    // guards the clock hand used by the CLOCK eviction policy
+    private final ReentrantLock evictionLock;
+    private Iterator<Map.Entry<K, ValueHolder<V>>> clockHand;
 
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize,
+            EvictionPolicy evictionPolicy) {
         this.map = new ConcurrentHashMap<>();
         this.maxSize = maxSize;
-        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        if (maxSize != null && EvictionPolicy.CLOCK.equals(evictionPolicy)) {
+            this.function = (key) -> new AccessTrackingValueHolder<>(valueHolderFunction.apply(() -> computingFunction.apply(key)));
+            this.evictionLock = new ReentrantLock();
+        } else {
+            this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+            this.evictionLock = null;
+        }
+        this.hits = maxSize != null ? new LongAdder() : null;
+        this.misses = maxSize != null ? new LongAdder() : null;
+        this.evictions = maxSize != null ? new LongAdder() : null;
     }
 
     @Override
@@ -64,14 +81,64 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             if (previous != null) {
                 value = previous;
             }
+            if (misses != null) {
+                misses.increment();
+            }
             // finally, check that we are not over the bound
             if (maxSize != null && size() > maxSize) {
-                clear();
+                evict(value);
+            }
+        } else if (maxSize != null) {
+            hits.increment();
+            if (evictionLock != null) {
+                ((AccessTrackingValueHolder<V>) value).markAccessed();
             }
         }
         return value.get();
     }
 
+    /**
+     * Removes entries until the cache fits its maximum size again.
+     *
+     * @param inserted the value holder which was just inserted by the calling thread - the CLOCK policy does not remove it
+     *        unless it is the only entry left, otherwise the value computed by the caller would be dropped immediately
+     */
+    private void evict(ValueHolder<V> inserted) {
+        if (evictionLock == null) {
+            evictions.add(map.size());
+            clear();
+            return;
+        }
+        if (!evictionLock.tryLock()) {
+            // another thread is already evicting
+            return;
+        }
+        try {
+            // CLOCK - an entry accessed since the hand passed it last time gets a second chance
+            while (map.size() > maxSize) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = map.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<K, ValueHolder<V>> entry = clockHand.next();
+                AccessTrackingValueHolder<V> value = (AccessTrackingValueHolder<V>) entry.getValue();
+                if (value == inserted && map.size() > 1) {
+                    continue;
+                }
+                if (value.resetAccessed()) {
+                    continue;
+                }
+                if (map.remove(entry.getKey(), value)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getCastValue(Object key) {
@@ -102,6 +169,21 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         map.remove(key);
     }
 
+    @Override
+    public long getHitCount() {
+        return hits != null ? hits.sum() : 0L;
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses != null ? misses.sum() : 0L;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions != null ? evictions.sum() : 0L;
+    }
+
     @Override
     public Iterable<V> getAllPresentValues() {
         return this;
@@ -155,4 +237,49 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             }
         };
     }
+
+    /**
+     * Wraps a value holder and remembers whether the value was accessed since the last eviction pass.
+     *
+     * @param <V> the value type
+     */
+    private static class AccessTrackingValueHolder<V> implements ValueHolder<V> {
+
+        private final ValueHolder<V> delegate;
+        private volatile boolean accessed;
+
+        private AccessTrackingValueHolder(ValueHolder<V> delegate) {
+            this.delegate = delegate;
+        }
+
+        private void markAccessed() {
+            // avoid the volatile write if possible
+            if (!accessed) {
+                accessed = true;
+            }
+        }
+
+        private boolean resetAccessed() {
+            if (accessed) {
+                accessed = false;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public V get() {
+            return delegate.get();
+        }
+
+        @Override
+        public V getIfPresent() {
+            return delegate.getIfPresent();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(delegate);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyClassCacheTest {
+
+    public static class Cached {
+    }
+
+    private static final String CLASS_NAME = Cached.class.getName();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private String hash;
+    private byte[] bytecode;
+
+    @Before
+    public void init() throws IOException {
+        directory = folder.getRoot();
+        hash = ProxyClassCache.hash(ProxyClassCache.newSignature(CLASS_NAME, ProxyFactory.class));
+        bytecode = readBytecode(Cached.class);
+    }
+
+    @Test
+    public void testHit() {
+        ProxyClassCache.write(directory, CLASS_NAME, hash, bytecode);
+        assertArrayEquals(bytecode, ProxyClassCache.read(directory, CLASS_NAME, hash));
+        Class<?> loaded = ProxyClassCache.load(directory, CLASS_NAME, hash, newClassLoader(), null);
+        assertNotNull(loaded);
+        assertEquals(CLASS_NAME, loaded.getName());
+        assertNotSame(Cached.class, loaded);
+    }
+
+    @Test
+    public void testMiss() {
+        assertNull(ProxyClassCache.read(directory, CLASS_NAME, hash));
+        ProxyClassCache.write(directory, CLASS_NAME, hash, bytecode);
+        // a different signature hash, e.g. after the proxied type changed
+        String otherHash = ProxyClassCache.hash(ProxyClassCache.newSignature(CLASS_NAME, ClientProxyFactory.class));
+        assertNull(ProxyClassCache.read(directory, CLASS_NAME, otherHash));
+        assertNull(ProxyClassCache.load(directory, CLASS_NAME, otherHash, newClassLoader(), null));
+    }
+
+    @Test
+    public void testCorruptedEntryDeleted() throws IOException {
+        ProxyClassCache.write(directory, CLASS_NAME, hash, bytecode);
+        File file = getSingleFile();
+        byte[] content = Files.readAllBytes(file.toPath());
+        content[content.length - 1]++;
+        Files.write(file.toPath(), content);
+        assertNull(ProxyClassCache.read(directory, CLASS_NAME, hash));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void testTruncatedEntryDeleted() throws IOException {
+        ProxyClassCache.write(directory, CLASS_NAME, hash, bytecode);
+        File file = getSingleFile();
+        Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+        assertNull(ProxyClassCache.read(directory, CLASS_NAME, hash));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void testUndefinableEntryDeleted() {
+        // the checksum matches but the content is not a class file
+        ProxyClassCache.write(directory, CLASS_NAME, hash, new byte[] { 1, 2, 3, 4, 5 });
+        File file = getSingleFile();
+        assertNull(ProxyClassCache.load(directory, CLASS_NAME, hash, newClassLoader(), null));
+        assertFalse(file.exists());
+    }
+
+    private File getSingleFile() {
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        return files[0];
+    }
+
+    private static ClassLoader newClassLoader() {
+        return new ClassLoader(null) {
+        };
+    }
+
+    private static byte[] readBytecode(Class<?> clazz) throws IOException {
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BootstrapProfilerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDisabled() {
+        BootstrapProfiler profiler = new BootstrapProfiler(null);
+        assertFalse(profiler.isEnabled());
+        profiler.startPhase("deployBeans").stop();
+        profiler.startObserver("observer", Object.class).stop();
+        assertEquals("{\n  \"contextId\": \"test\",\n  \"phases\": [\n  ],\n  \"archives\": [\n  ],\n  \"extensionObservers\": [\n  ]\n}\n",
+                profiler.toJson("test"));
+    }
+
+    @Test
+    public void testReport() throws IOException {
+        File reportFile = new File(folder.getRoot(), "reports/bootstrap.json");
+        BootstrapProfiler profiler = new BootstrapProfiler(reportFile);
+        assertTrue(profiler.isEnabled());
+        profiler.startPhase("deployBeans").stop();
+        profiler.startObserver("Foo.observe(\"quoted\")", String.class).stop();
+        profiler.startObserver("Foo.observe(\"quoted\")", String.class).stop();
+        profiler.writeReport("test");
+        assertFalse(profiler.isEnabled());
+
+        String json = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(json, json.startsWith("{\n  \"contextId\": \"test\","));
+        assertTrue(json, json.contains("{\"phase\": \"deployBeans\", \"invocations\": 1, \"wallTimeNanos\": "));
+        assertTrue(json, json.contains("{\"observer\": \"Foo.observe(\\\"quoted\\\")\", \"event\": \"java.lang.String\", \"invocations\": 2, "));
+        assertTrue(json, json.contains("\"archives\": [\n  ]"));
+        // nothing is recorded once the report is written
+        profiler.startPhase("validateBeans").stop();
+        assertFalse(profiler.toJson("test").contains("validateBeans"));
+    }
+
+    @Test
+    public void testNestedObserverIsNotCountedTwice() throws InterruptedException {
+        BootstrapProfiler profiler = new BootstrapProfiler(new File(folder.getRoot(), "bootstrap.json"));
+        BootstrapProfiler.Measurement outer = profiler.startObserver("outer", Object.class);
+        BootstrapProfiler.Measurement inner = profiler.startObserver("inner", Object.class);
+        Thread.sleep(100);
+        inner.stop();
+        outer.stop();
+        // a later notification is not nested
+        profiler.startObserver("next", Object.class).stop();
+
+        String json = profiler.toJson("test");
+        long innerWallTime = getWallTime(json, "inner");
+        assertTrue(json, innerWallTime >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(json, getWallTime(json, "outer") < innerWallTime);
+        assertTrue(json, getWallTime(json, "next") < innerWallTime);
+    }
+
+    private static long getWallTime(String json, String observer) {
+        Matcher matcher = Pattern.compile("\"observer\": \"" + observer + "\"[^}]*\"wallTimeNanos\": (-?\\d+)").matcher(json);
+        assertTrue(json, matcher.find());
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LockStoreTest {
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 1000;
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSameIdCreatedOnce() throws Exception {
+        LockStore store = new LockStore();
+        assertSingleCreation(store);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testDeserializedStore() throws Exception {
+        LockStore store = new LockStore();
+        store.lock(new StringBeanIdentifier("foo")).unlock();
+        // the map of locks is transient, it is created once the deserialized store is used concurrently
+        LockStore deserialized = deserialize(serialize(store));
+        assertSingleCreation(deserialized);
+        assertEquals(0, deserialized.size());
+    }
+
+    @Test
+    public void testDifferentIdsDoNotBlock() throws Exception {
+        final LockStore store = new LockStore();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Future<Void> holder = executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                LockedBean lock = store.lock(new StringBeanIdentifier("foo"));
+                try {
+                    locked.countDown();
+                    release.await();
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            }
+        });
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+        // the lock of foo is held by the other thread
+        Future<Void> other = executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                store.lock(new StringBeanIdentifier("bar")).unlock();
+                return null;
+            }
+        });
+        other.get(10, TimeUnit.SECONDS);
+        assertEquals(1, store.size());
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        assertEquals(0, store.size());
+    }
+
+    /**
+     * Many threads concurrently create the same beans, creating a bean only if it does not exist yet. Each bean must be created exactly
+     * once and no two threads may hold the lock of a bean at the same time.
+     */
+    private void assertSingleCreation(final LockStore store) throws Exception {
+        final ConcurrentMap<BeanIdentifier, Object> instances = new ConcurrentHashMap<BeanIdentifier, Object>();
+        final ConcurrentMap<BeanIdentifier, Thread> owners = new ConcurrentHashMap<BeanIdentifier, Thread>();
+        final AtomicInteger creations = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        BeanIdentifier id = new StringBeanIdentifier("bean" + (j % 10));
+                        LockedBean lock = store.lock(id);
+                        try {
+                            Thread owner = owners.putIfAbsent(id, Thread.currentThread());
+                            if (owner != null) {
+                                throw new IllegalStateException(id + " is also locked by " + owner);
+                            }
+                            if (!instances.containsKey(id)) {
+                                creations.incrementAndGet();
+                                instances.put(id, new Object());
+                            }
+                            owners.remove(id);
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        assertEquals(10, instances.size());
+        assertEquals(10, creations.get());
+    }
+
+    private static byte[] serialize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(object);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static LockStore deserialize(byte[] bytes) throws Exception {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        try {
+            return (LockStore) in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+}
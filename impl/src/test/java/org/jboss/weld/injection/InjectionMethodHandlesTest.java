@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * Verifies that the method handles created by {@link InjectionMethodHandles} fail the same way as the reflection API, once the
+ * failure is translated by the check methods.
+ */
+public class InjectionMethodHandlesTest {
+
+    static class Target {
+
+        long value;
+
+        String join(String prefix, int count) {
+            return prefix + count;
+        }
+
+        static String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    @Test
+    public void testInvoker() throws Throwable {
+        Method join = Target.class.getDeclaredMethod("join", String.class, int.class);
+        MethodHandle invoker = InjectionMethodHandles.invoker(join);
+        assertEquals("foo1", (Object) invoker.invokeExact((Object) new Target(), new Object[] { "foo", 1 }));
+        Method fail = Target.class.getDeclaredMethod("fail", String.class);
+        try {
+            Object ignored = (Object) InjectionMethodHandles.invoker(fail).invokeExact((Object) null, new Object[] { "bar" });
+            fail();
+        } catch (IllegalStateException expected) {
+            // not wrapped unlike with reflection
+            assertEquals("bar", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void testSetter() throws Throwable {
+        Field value = Target.class.getDeclaredField("value");
+        Target target = new Target();
+        // unboxing followed by widening like Field.set()
+        InjectionMethodHandles.setter(value).invokeExact((Object) target, (Object) Integer.valueOf(42));
+        assertEquals(42L, target.value);
+    }
+
+    @Test
+    public void testCheckArguments() throws Exception {
+        Method join = Target.class.getDeclaredMethod("join", String.class, int.class);
+        Target target = new Target();
+        assertNull(InjectionMethodHandles.checkArguments(join, target, new Object[] { "foo", 1 }));
+        assertMismatch(join, target, new Object[] { "foo", "1" });
+        assertMismatch(join, target, new Object[] { "foo", null });
+        assertMismatch(join, target, new Object[] { "foo", 1L });
+        assertMismatch(join, target, new Object[] { "foo" });
+        assertMismatch(join, new Object(), new Object[] { "foo", 1 });
+        // a null receiver results in a NullPointerException in both cases
+        assertNull(InjectionMethodHandles.checkArguments(join, null, new Object[] { "foo", 1 }));
+    }
+
+    @Test
+    public void testCheckField() throws Exception {
+        Field value = Target.class.getDeclaredField("value");
+        Target target = new Target();
+        assertNull(InjectionMethodHandles.checkField(value, target, 1));
+        assertNull(InjectionMethodHandles.checkField(value, target, 'a'));
+        assertNotNull(InjectionMethodHandles.checkField(value, target, 1.0));
+        assertNotNull(InjectionMethodHandles.checkField(value, target, null));
+        assertNotNull(InjectionMethodHandles.checkField(value, new Object(), 1L));
+        try {
+            value.set(target, 1.0);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static void assertMismatch(Method method, Object receiver, Object[] arguments) throws IllegalAccessException,
+            InvocationTargetException {
+        assertNotNull(InjectionMethodHandles.checkArguments(method, receiver, arguments));
+        try {
+            method.invoke(receiver, arguments);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // the reflection API agrees
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.jboss.weld.literal.NamedLiteral;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
+import org.junit.Test;
+
+public class BeanIndexTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final MetaAnnotationStore store = new MetaAnnotationStore(new ClassTransformer(typeStore, new SharedObjectCache(),
+            ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE));
+
+    @Test
+    public void testRawType() {
+        SimpleBean integer = new SimpleBean(Integer.class, Number.class, Object.class);
+        SimpleBean string = new SimpleBean(String.class, Object.class);
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(integer, string), store);
+
+        assertEquals(Collections.singleton(integer), getCandidates(index, Number.class, true));
+        assertEquals(Collections.singleton(string), getCandidates(index, String.class, true));
+        assertEquals(set(integer, string), getCandidates(index, Object.class, true));
+        assertTrue(getCandidates(index, Long.class, true).isEmpty());
+    }
+
+    @Test
+    public void testPrimitiveTypesAreBoxed() {
+        SimpleBean primitive = new SimpleBean(int.class, Object.class);
+        SimpleBean boxed = new SimpleBean(Integer.class, Object.class);
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(primitive, boxed), store);
+
+        assertEquals(set(primitive, boxed), getCandidates(index, int.class, true));
+        assertEquals(set(primitive, boxed), getCandidates(index, Integer.class, true));
+    }
+
+    @Test
+    public void testShape() {
+        SimpleBean strings = new SimpleBean(new TypeLiteral<List<String>>() {
+        }.getType());
+        SimpleBean integers = new SimpleBean(new TypeLiteral<List<Integer>>() {
+        }.getType());
+        SimpleBean nestedStrings = new SimpleBean(new TypeLiteral<List<List<String>>>() {
+        }.getType());
+        SimpleBean raw = new SimpleBean(List.class);
+        SimpleBean arrays = new SimpleBean(new TypeLiteral<List<String[]>>() {
+        }.getType());
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(strings, integers, nestedStrings, raw, arrays), store);
+
+        // beans with a raw type or an array type argument are candidates for any required type
+        assertEquals(set(strings, raw, arrays), getCandidates(index, new TypeLiteral<List<String>>() {
+        }.getType(), true));
+        assertEquals(set(integers, raw, arrays), getCandidates(index, new TypeLiteral<List<Integer>>() {
+        }.getType(), true));
+        // the shape is the raw type of the first type argument
+        assertEquals(set(nestedStrings, raw, arrays), getCandidates(index, new TypeLiteral<List<List<Integer>>>() {
+        }.getType(), true));
+        // wildcards, arrays and raw required types are not narrowed down
+        Set<SimpleBean> all = set(strings, integers, nestedStrings, raw, arrays);
+        assertEquals(all, getCandidates(index, new TypeLiteral<List<? extends Number>>() {
+        }.getType(), true));
+        assertEquals(all, getCandidates(index, new TypeLiteral<List<Number[]>>() {
+        }.getType(), true));
+        assertEquals(all, getCandidates(index, List.class, true));
+    }
+
+    @Test
+    public void testTypeVariableBeanTypeIsAlwaysCandidate() {
+        SimpleBean variable = new SimpleBean(new ParameterizedTypeImpl(Map.class, Map.class.getTypeParameters()[0], String.class));
+        SimpleBean strings = new SimpleBean(new TypeLiteral<Map<String, String>>() {
+        }.getType());
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(variable, strings), store);
+
+        assertEquals(set(variable), getCandidates(index, new TypeLiteral<Map<Integer, String>>() {
+        }.getType(), true));
+        assertEquals(set(variable, strings), getCandidates(index, new TypeLiteral<Map<String, String>>() {
+        }.getType(), true));
+    }
+
+    @Test
+    public void testDelegateIsNotNarrowedByTypeArguments() {
+        SimpleBean strings = new SimpleBean(new TypeLiteral<List<String>>() {
+        }.getType());
+        SimpleBean integers = new SimpleBean(new TypeLiteral<List<Integer>>() {
+        }.getType());
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(strings, integers), store);
+
+        assertEquals(set(strings, integers), getCandidates(index, new TypeLiteral<List<String>>() {
+        }.getType(), false));
+    }
+
+    @Test
+    public void testQualifiers() {
+        SimpleBean foo = new SimpleBean(Object.class).qualifiers(AnyLiteral.INSTANCE, new NamedLiteral("foo"));
+        SimpleBean bar = new SimpleBean(Object.class).qualifiers(AnyLiteral.INSTANCE, new NamedLiteral("bar"));
+        SimpleBean defaultBean = new SimpleBean(Object.class).qualifiers(AnyLiteral.INSTANCE, DefaultLiteral.INSTANCE);
+        BeanIndex<SimpleBean> index = new BeanIndex<SimpleBean>(Arrays.asList(foo, bar, defaultBean), store);
+
+        QualifierInstance any = QualifierInstance.of(AnyLiteral.INSTANCE, store);
+        QualifierInstance named = QualifierInstance.of(new NamedLiteral("foo"), store);
+        QualifierInstance unknown = QualifierInstance.of(new NamedLiteral("baz"), store);
+
+        assertNull(index.getQualifiedBeans(Collections.<QualifierInstance> emptySet()));
+        assertEquals(set(foo, bar, defaultBean), index.getQualifiedBeans(Collections.singleton(any)));
+        assertEquals(set(defaultBean), index.getQualifiedBeans(Collections.singleton(QualifierInstance.DEFAULT)));
+        // the smallest bucket is returned
+        assertEquals(set(foo), index.getQualifiedBeans(set(any, named)));
+        // a qualifier no bean has means there are no candidates at all
+        assertTrue(index.getQualifiedBeans(set(any, unknown)).isEmpty());
+    }
+
+    private static Set<SimpleBean> getCandidates(BeanIndex<SimpleBean> index, Type requiredType, boolean narrowByTypeArguments) {
+        Set<SimpleBean> candidates = new HashSet<SimpleBean>();
+        index.addCandidates(requiredType, narrowByTypeArguments, candidates);
+        return candidates;
+    }
+
+    @SafeVarargs
+    private static <T> Set<T> set(T... elements) {
+        return new HashSet<T>(Arrays.asList(elements));
+    }
+
+    private static class SimpleBean implements Bean<Object> {
+
+        private final Set<Type> types;
+        private Set<Annotation> qualifiers = Collections.emptySet();
+
+        SimpleBean(Type... types) {
+            this.types = new HashSet<Type>(Arrays.asList(types));
+        }
+
+        SimpleBean qualifiers(Annotation... qualifiers) {
+            this.qualifiers = new HashSet<Annotation>(Arrays.asList(qualifiers));
+            return this;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return types;
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return qualifiers;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Dependent.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isNullable() {
+            return false;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+    }
+}
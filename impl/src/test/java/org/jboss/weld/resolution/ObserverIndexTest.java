@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.event.Reception;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.jboss.weld.literal.NamedLiteral;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.junit.Test;
+
+public class ObserverIndexTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final MetaAnnotationStore store = new MetaAnnotationStore(new ClassTransformer(typeStore, new SharedObjectCache(),
+            ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE));
+
+    @Test
+    public void testRawType() {
+        SimpleObserver number = new SimpleObserver(Number.class);
+        SimpleObserver string = new SimpleObserver(String.class);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(number, string), store);
+
+        assertEquals(set(number), getCandidates(index, set(Integer.class, Number.class, Object.class)));
+        assertEquals(set(string), getCandidates(index, set(String.class, Object.class)));
+        assertTrue(getCandidates(index, set(Long.class)).isEmpty());
+    }
+
+    @Test
+    public void testPrimitiveTypesAreBoxed() {
+        SimpleObserver primitive = new SimpleObserver(int.class);
+        SimpleObserver boxed = new SimpleObserver(Integer.class);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(primitive, boxed), store);
+
+        assertEquals(set(primitive, boxed), getCandidates(index, set(int.class)));
+        assertEquals(set(primitive, boxed), getCandidates(index, set(Integer.class, Object.class)));
+    }
+
+    @Test
+    public void testArrayObservedTypeIsAlwaysCandidate() {
+        SimpleObserver array = new SimpleObserver(Number[].class);
+        SimpleObserver primitiveArray = new SimpleObserver(int[].class);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(array, primitiveArray), store);
+
+        assertEquals(set(array, primitiveArray), getCandidates(index, set(Integer[].class, Object.class)));
+        assertEquals(set(array, primitiveArray), getCandidates(index, set(String.class)));
+    }
+
+    @Test
+    public void testParameterizedObservedTypeIsIndexedByRawType() {
+        SimpleObserver strings = new SimpleObserver(new TypeLiteral<List<String>>() {
+        }.getType());
+        SimpleObserver wildcard = new SimpleObserver(new TypeLiteral<List<? extends Number>>() {
+        }.getType());
+        ObserverIndex index = new ObserverIndex(Arrays.asList(strings, wildcard), store);
+
+        // type arguments are not used to narrow down the candidates
+        assertEquals(set(strings, wildcard), getCandidates(index, set(new TypeLiteral<ArrayList<Integer>>() {
+        }.getType(), new TypeLiteral<List<Integer>>() {
+        }.getType(), Object.class)));
+        assertTrue(getCandidates(index, set(String.class, Object.class)).isEmpty());
+    }
+
+    @Test
+    public void testTypeVariableObservedTypeIsAlwaysCandidate() {
+        SimpleObserver variable = new SimpleObserver(List.class.getTypeParameters()[0]);
+        SimpleObserver string = new SimpleObserver(String.class);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(variable, string), store);
+
+        assertEquals(set(variable), getCandidates(index, set(Integer.class, Object.class)));
+        assertEquals(set(variable, string), getCandidates(index, set(String.class, Object.class)));
+    }
+
+    @Test
+    public void testObjectObserverIsCandidateForAnyEvent() {
+        SimpleObserver object = new SimpleObserver(Object.class);
+        ObserverIndex index = new ObserverIndex(Collections.singleton(object), store);
+
+        // the type closure of any event type contains Object
+        assertEquals(set(object), getCandidates(index, set(String.class, Object.class)));
+        assertEquals(set(object), getCandidates(index, set(int.class, Object.class)));
+        assertEquals(set(object), getCandidates(index, set(Integer[].class, Object.class)));
+    }
+
+    @Test
+    public void testQualifierBuckets() {
+        SimpleObserver unqualified = new SimpleObserver(String.class);
+        SimpleObserver named = new SimpleObserver(String.class, new NamedLiteral("foo"));
+        SimpleObserver any = new SimpleObserver(String.class, AnyLiteral.INSTANCE);
+        SimpleObserver multiple = new SimpleObserver(String.class, new NamedLiteral("foo"), DefaultLiteral.INSTANCE);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(unqualified, named, any, multiple), store);
+
+        Set<Type> types = set(String.class, Object.class);
+        QualifierInstance foo = QualifierInstance.of(new NamedLiteral("foo"), store);
+        QualifierInstance bar = QualifierInstance.of(new NamedLiteral("bar"), store);
+        QualifierInstance anyQualifier = QualifierInstance.of(AnyLiteral.INSTANCE, store);
+
+        // unqualified observer methods are candidates for events with any qualifiers
+        assertEquals(set(unqualified), getCandidates(index, types, Collections.<QualifierInstance> emptySet()));
+        assertEquals(set(unqualified, any), getCandidates(index, types, set(anyQualifier)));
+        assertEquals(set(unqualified, named, any, multiple), getCandidates(index, types, set(foo, anyQualifier, QualifierInstance.DEFAULT)));
+        // the bucket is selected by the qualifier class, the values are compared once the candidates are matched
+        assertTrue(getCandidates(index, types, set(bar)).contains(named));
+    }
+
+    @Test
+    public void testResolvedQualifiers() {
+        SimpleObserver named = new SimpleObserver(String.class, new NamedLiteral("foo"));
+        SimpleObserver unqualified = new SimpleObserver(String.class);
+        ObserverIndex index = new ObserverIndex(Arrays.asList(named, unqualified), store);
+
+        assertEquals(set(QualifierInstance.of(new NamedLiteral("foo"), store)), index.getQualifiers(named));
+        assertTrue(index.getQualifiers(unqualified).isEmpty());
+        assertNull(index.getQualifiers(new SimpleObserver(String.class)));
+    }
+
+    private static Set<ObserverMethod<?>> getCandidates(ObserverIndex index, Set<Type> eventTypes) {
+        return getCandidates(index, eventTypes, Collections.<QualifierInstance> emptySet());
+    }
+
+    private static Set<ObserverMethod<?>> getCandidates(ObserverIndex index, Set<Type> eventTypes, Set<QualifierInstance> eventQualifiers) {
+        return new HashSet<ObserverMethod<?>>(index.getCandidates(eventTypes, eventQualifiers));
+    }
+
+    @SafeVarargs
+    private static <T> Set<T> set(T... elements) {
+        return new HashSet<T>(Arrays.asList(elements));
+    }
+
+    private static class SimpleObserver implements ObserverMethod<Object> {
+
+        private final Type observedType;
+        private final Set<Annotation> observedQualifiers;
+
+        SimpleObserver(Type observedType, Annotation... observedQualifiers) {
+            this.observedType = observedType;
+            this.observedQualifiers = new HashSet<Annotation>(Arrays.asList(observedQualifiers));
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Type getObservedType() {
+            return observedType;
+        }
+
+        @Override
+        public Set<Annotation> getObservedQualifiers() {
+            return observedQualifiers;
+        }
+
+        @Override
+        public Reception getReception() {
+            return Reception.ALWAYS;
+        }
+
+        @Override
+        public TransactionPhase getTransactionPhase() {
+            return TransactionPhase.IN_PROGRESS;
+        }
+
+        @Override
+        public void notify(Object event) {
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.CreationalContextImpl;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.junit.Test;
+
+public class CreationalContextImplTest {
+
+    private final Dependency dependency = new Dependency();
+
+    @Test
+    public void testDependentInstanceIsStoredInParent() {
+        CreationalContextImpl<Object> root = new CreationalContextImpl<Object>(null);
+        CreationalContextImpl<String> child = root.getCreationalContext(dependency);
+        assertTrue(root.getDependentInstances().isEmpty());
+        assertTrue(child.getDependentInstances().isEmpty());
+
+        child.addDependentInstance(new Instance("foo", child));
+        assertEquals(1, root.getDependentInstances().size());
+        assertTrue(child.getDependentInstances().isEmpty());
+
+        root.release();
+        assertEquals(Collections.singletonList("foo"), dependency.destroyed);
+    }
+
+    @Test
+    public void testDestroyDependentInstance() {
+        CreationalContextImpl<String> root = new CreationalContextImpl<String>(null);
+        CreationalContextImpl<String> child = root.getCreationalContext(dependency);
+        child.addDependentInstance(new Instance("foo", child));
+        child.addDependentInstance(new Instance("bar", child));
+
+        assertTrue(root.destroyDependentInstance("foo"));
+        assertFalse(root.destroyDependentInstance("foo"));
+        assertFalse(root.destroyDependentInstance("baz"));
+        assertEquals(1, root.getDependentInstances().size());
+
+        root.release();
+        assertEquals(Arrays.asList("foo", "bar"), dependency.destroyed);
+    }
+
+    private static class Dependency implements Contextual<String> {
+
+        private final List<String> destroyed = new ArrayList<String>();
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+        }
+    }
+
+    private class Instance implements ContextualInstance<String> {
+
+        private final String instance;
+        private final CreationalContext<String> creationalContext;
+
+        private Instance(String instance, CreationalContext<String> creationalContext) {
+            this.instance = instance;
+            this.creationalContext = creationalContext;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return creationalContext;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return dependency;
+        }
+    }
+}
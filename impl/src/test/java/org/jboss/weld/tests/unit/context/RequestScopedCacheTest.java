@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.context.cache.RequestScopedItem;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestScopedCacheTest {
+
+    private final ThreadLocal<String> instance = new ThreadLocal<String>();
+
+    @After
+    public void cleanup() {
+        while (RequestScopedCache.isActive()) {
+            RequestScopedCache.endRequest();
+        }
+    }
+
+    @Test
+    public void testEndRequest() {
+        CountingItem item = new CountingItem();
+        RequestScopedCache.beginRequest();
+        cache("foo");
+        RequestScopedCache.addItem(item);
+        RequestScopedCache.endRequest();
+        assertFalse(RequestScopedCache.isActive());
+        assertNull(instance.get());
+        assertEquals(1, item.invalidations.get());
+        // ending an inactive cache is a no-op
+        RequestScopedCache.endRequest();
+        assertEquals(1, item.invalidations.get());
+    }
+
+    @Test
+    public void testInvalidateOnlyFlushesThreadLocals() {
+        CountingItem item = new CountingItem();
+        RequestScopedCache.beginRequest();
+        cache("foo");
+        RequestScopedCache.addItem(item);
+        RequestScopedCache.invalidate();
+        assertTrue(RequestScopedCache.isActive());
+        assertNull(instance.get());
+        assertEquals(0, item.invalidations.get());
+        RequestScopedCache.endRequest();
+        assertEquals(1, item.invalidations.get());
+    }
+
+    @Test
+    public void testNestedRequest() {
+        CountingItem outerItem = new CountingItem();
+        CountingItem nestedItem = new CountingItem();
+        RequestScopedCache.beginRequest();
+        cache("outer");
+        RequestScopedCache.addItem(outerItem);
+
+        RequestScopedCache.beginRequest();
+        // the instances cached by the outer request are not visible
+        assertNull(instance.get());
+        cache("nested");
+        RequestScopedCache.addItem(nestedItem);
+        RequestScopedCache.endRequest();
+
+        // the nested request does not tear down the cache of the outer request
+        assertTrue(RequestScopedCache.isActive());
+        assertNull(instance.get());
+        assertEquals(0, outerItem.invalidations.get());
+        assertEquals(0, nestedItem.invalidations.get());
+        cache("outer");
+        assertEquals("outer", instance.get());
+
+        RequestScopedCache.endRequest();
+        assertFalse(RequestScopedCache.isActive());
+        assertNull(instance.get());
+        assertEquals(1, outerItem.invalidations.get());
+        assertEquals(1, nestedItem.invalidations.get());
+    }
+
+    @Test
+    public void testInactive() {
+        assertFalse(RequestScopedCache.isActive());
+        assertFalse(RequestScopedCache.addItemIfActive(instance));
+        assertFalse(RequestScopedCache.addItemIfActive(new CountingItem()));
+        RequestScopedCache.invalidate();
+        assertFalse(RequestScopedCache.isActive());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddItemWhenInactive() {
+        RequestScopedCache.addItem(new CountingItem());
+    }
+
+    private void cache(String value) {
+        assertTrue(RequestScopedCache.addItemIfActive(instance));
+        instance.set(value);
+    }
+
+    private static class CountingItem implements RequestScopedItem {
+
+        private final AtomicInteger invalidations = new AtomicInteger();
+
+        @Override
+        public void invalidate() {
+            invalidations.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.servlet.http.HttpSession;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.beanstore.NamingScheme;
+import org.jboss.weld.context.beanstore.SimpleNamingScheme;
+import org.jboss.weld.context.beanstore.http.EagerSessionBeanStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link org.jboss.weld.config.ConfigurationKey#SESSION_DIRTY_TRACKING}.
+ */
+public class SessionDirtyTrackingTest {
+
+    private final NamingScheme namingScheme = new SimpleNamingScheme("WELD_S");
+
+    private RecordingSession recording;
+
+    private HttpSession session;
+
+    @Before
+    public void init() {
+        recording = new RecordingSession();
+        session = recording.createSession();
+        for (String id : Arrays.asList("a", "b", "c")) {
+            recording.attributes.put(namingScheme.prefix(id(id)), new SimpleInstance());
+        }
+    }
+
+    @Test
+    public void testOnlyAccessedInstancesAreSetAgain() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        assertTrue(recording.read.isEmpty());
+
+        assertNotNull(beanStore.get(id("a")));
+        assertNotNull(beanStore.get(id("a")));
+        assertEquals(Collections.singletonList(namingScheme.prefix(id("a"))), recording.read);
+
+        beanStore.detach();
+        assertEquals(Collections.singletonList(namingScheme.prefix(id("a"))), recording.written);
+    }
+
+    @Test
+    public void testWithoutDirtyTracking() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, false);
+        beanStore.attach();
+        assertEquals(3, recording.read.size());
+        assertNotNull(beanStore.get(id("a")));
+        beanStore.detach();
+        assertTrue(recording.written.isEmpty());
+    }
+
+    @Test
+    public void testNewInstanceIsSetOnce() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        beanStore.put(id("d"), new SimpleInstance());
+        assertEquals(Collections.singletonList(namingScheme.prefix(id("d"))), recording.written);
+        beanStore.detach();
+        assertEquals(Collections.singletonList(namingScheme.prefix(id("d"))), recording.written);
+    }
+
+    @Test
+    public void testIterationFetchesAllInstances() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        Set<BeanIdentifier> ids = new HashSet<BeanIdentifier>();
+        for (BeanIdentifier id : beanStore) {
+            ids.add(id);
+        }
+        assertEquals(new HashSet<BeanIdentifier>(Arrays.asList(id("a"), id("b"), id("c"))), ids);
+        beanStore.detach();
+        // iterating does not mean the instances were used
+        assertTrue(recording.written.isEmpty());
+    }
+
+    @Test
+    public void testInstanceAddedToSessionLaterIsTracked() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        beanStore.iterator();
+        // e.g. a concurrent request created the instance
+        recording.attributes.put(namingScheme.prefix(id("d")), new SimpleInstance());
+        assertNotNull(beanStore.get(id("d")));
+        beanStore.detach();
+        assertEquals(Collections.singletonList(namingScheme.prefix(id("d"))), recording.written);
+    }
+
+    @Test
+    public void testRemovedInstanceIsNotSetAgain() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        assertNotNull(beanStore.get(id("a")));
+        assertNotNull(beanStore.remove(id("a")));
+        assertNotNull(beanStore.remove(id("b")));
+        beanStore.detach();
+        assertTrue(recording.written.isEmpty());
+        assertEquals(Collections.singleton(namingScheme.prefix(id("c"))), recording.attributes.keySet());
+    }
+
+    @Test
+    public void testInvalidatedSession() {
+        EagerSessionBeanStore beanStore = new EagerSessionBeanStore(namingScheme, session, true);
+        beanStore.attach();
+        assertNotNull(beanStore.get(id("a")));
+        recording.invalidated = true;
+        beanStore.detach();
+        assertTrue(recording.written.isEmpty());
+    }
+
+    private static BeanIdentifier id(String value) {
+        return new StringBeanIdentifier(value);
+    }
+
+    private static class RecordingSession {
+
+        private final Map<String, Object> attributes = new LinkedHashMap<String, Object>();
+        private final List<String> read = new ArrayList<String>();
+        private final List<String> written = new ArrayList<String>();
+        private boolean invalidated;
+
+        HttpSession createSession() {
+            return (HttpSession) Proxy.newProxyInstance(HttpSession.class.getClassLoader(), new Class<?>[] { HttpSession.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getId":
+                        return "foo";
+                    case "getAttribute":
+                        checkState();
+                        read.add((String) args[0]);
+                        return attributes.get(args[0]);
+                    case "setAttribute":
+                        checkState();
+                        written.add((String) args[0]);
+                        attributes.put((String) args[0], args[1]);
+                        return null;
+                    case "removeAttribute":
+                        checkState();
+                        attributes.remove(args[0]);
+                        return null;
+                    case "getAttributeNames":
+                        checkState();
+                        return Collections.enumeration(new ArrayList<String>(attributes.keySet()));
+                    default:
+                        throw new UnsupportedOperationException(method.toString());
+                }
+            });
+        }
+
+        private void checkState() {
+            if (invalidated) {
+                throw new IllegalStateException("Session invalidated");
+            }
+        }
+    }
+
+    private static class SimpleInstance implements ContextualInstance<Object> {
+
+        @Override
+        public Object getInstance() {
+            return this;
+        }
+
+        @Override
+        public CreationalContext<Object> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<Object> getContextual() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.exceptions.DeploymentException;
+import org.jboss.weld.executor.ForkJoinPoolExecutorServices;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ForkJoinPoolExecutorServicesTest {
+
+    private ForkJoinPoolExecutorServices executor;
+
+    @Before
+    public void init() {
+        executor = new ForkJoinPoolExecutorServices(4);
+    }
+
+    @After
+    public void cleanup() {
+        executor.cleanup();
+    }
+
+    @Test
+    public void testAllItemsProcessedOnce() {
+        List<Integer> items = createItems(10000);
+        final Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(items) {
+            @Override
+            protected void doWork(Integer item) {
+                if (!processed.add(item)) {
+                    throw new IllegalStateException("Processed twice: " + item);
+                }
+            }
+        });
+        assertEquals(items.size(), processed.size());
+    }
+
+    @Test
+    public void testExceptionPropagated() {
+        final UnsupportedOperationException exception = new UnsupportedOperationException();
+        try {
+            executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(createItems(100)) {
+                @Override
+                protected void doWork(Integer item) {
+                    if (item == 42) {
+                        throw exception;
+                    }
+                }
+            });
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            // not a copy created by the fork/join framework
+            assertSame(exception, expected);
+        }
+    }
+
+    @Test
+    public void testErrorWrapped() {
+        final Error error = new NoClassDefFoundError();
+        try {
+            executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(createItems(100)) {
+                @Override
+                protected void doWork(Integer item) {
+                    if (item == 42) {
+                        throw error;
+                    }
+                }
+            });
+            fail();
+        } catch (DeploymentException expected) {
+            assertSame(error, expected.getCause());
+        }
+    }
+
+    @Test
+    public void testInitAndCleanupCalledOnSameThread() {
+        final ThreadLocal<Integer> chunk = new ThreadLocal<Integer>();
+        final AtomicInteger chunks = new AtomicInteger();
+        final AtomicInteger cleanups = new AtomicInteger();
+        final Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(createItems(10000)) {
+
+            @Override
+            protected void init() {
+                assertNull(chunk.get());
+                chunk.set(chunks.incrementAndGet());
+            }
+
+            @Override
+            protected void doWork(Integer item) {
+                assertTrue(chunk.get() != null);
+                processed.add(item);
+            }
+
+            @Override
+            protected void cleanup() {
+                assertTrue(chunk.get() != null);
+                chunk.remove();
+                cleanups.incrementAndGet();
+            }
+        });
+        assertEquals(10000, processed.size());
+        assertEquals(chunks.get(), cleanups.get());
+    }
+
+    private static List<Integer> createItems(int count) {
+        List<Integer> items = new ArrayList<Integer>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+}
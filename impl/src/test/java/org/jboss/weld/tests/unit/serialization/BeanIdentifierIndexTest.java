@@ -55,4 +55,23 @@ public class BeanIdentifierIndexTest {
         assertNull(index.getIndex(new StringBeanIdentifier("foo")));
     }
 
+    @Test
+    public void testCompactIndexDisabled() {
+        BeanIdentifierIndex index = new BeanIdentifierIndex();
+        index.build(Collections.<Bean<?>>emptySet());
+        assertNull(index.getCompactIndex(new StringBeanIdentifier("foo")));
+    }
+
+    @Test
+    public void testIndexHashMismatch() {
+        BeanIdentifierIndex index = new BeanIdentifierIndex(true);
+        index.build(Collections.<Bean<?>>emptySet());
+        try {
+            index.getIdentifier(0, index.getIndexHash() + 1);
+            fail();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
+
 }
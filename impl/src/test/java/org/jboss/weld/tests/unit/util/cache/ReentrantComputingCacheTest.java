@@ -21,6 +21,7 @@ import java.util.Set;
 
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
 import org.jboss.weld.util.collections.Iterables;
 import org.junit.Assert;
 import org.junit.Before;
@@ -64,4 +65,56 @@ public class ReentrantComputingCacheTest {
         Assert.assertTrue(values.contains("bar"));
         Assert.assertTrue(values.contains("baz"));
     }
+
+    @Test
+    public void testClearEvictionPolicy() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).build(x -> x);
+        cache.getValue("foo");
+        cache.getValue("bar");
+        cache.getValue("baz");
+        Assert.assertEquals(3, cache.size());
+        cache.getValue("qux");
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(4, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testClockEvictionPolicy() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).setEvictionPolicy(EvictionPolicy.CLOCK).build(x -> x);
+        cache.getValue("foo");
+        cache.getValue("bar");
+        cache.getValue("baz");
+        // foo was used recently and should survive the eviction
+        cache.getValue("foo");
+        cache.getValue("qux");
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals("foo", cache.getValueIfPresent("foo"));
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testClockEvictionPolicyKeepsInsertedEntry() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(2).setEvictionPolicy(EvictionPolicy.CLOCK).build(x -> x);
+        cache.getValue("foo");
+        cache.getValue("bar");
+        // both entries get a second chance
+        cache.getValue("foo");
+        cache.getValue("bar");
+        cache.getValue("baz");
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals("baz", cache.getValueIfPresent("baz"));
+    }
+
+    @Test
+    public void testUnboundedCacheDoesNotRecordStatistics() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().build(x -> x);
+        cache.getValue("foo");
+        cache.getValue("foo");
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(0, cache.getMissCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.event.EventImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link EventImpl#fireAsync(Object)}.
+ */
+@RunWith(Arquillian.class)
+public class AsyncEventTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(AsyncEventTest.class.getPackage());
+    }
+
+    @Inject
+    private Event<Message> event;
+
+    @Inject
+    @Failing
+    private Event<Message> failingEvent;
+
+    @Test
+    public void testObserversNotified() throws Exception {
+        Message message = new Message();
+        CompletionStage<Message> stage = ((EventImpl<Message>) event).fireAsync(message);
+        assertSame(message, stage.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertEquals(2, message.getObservers().size());
+        assertTrue(message.getObservers().contains("first:" + Message.class));
+        assertTrue(message.getObservers().contains("second"));
+    }
+
+    @Test
+    public void testObserverExceptionsCollected() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        ((EventImpl<Message>) failingEvent).fireAsync(new Message()).handle((message, throwable) -> {
+            failure.set(throwable);
+            return message;
+        }).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(failure.get() instanceof CompletionException);
+        assertTrue(failure.get().getCause() instanceof IllegalStateException);
+        // the exception thrown by the other observer is suppressed
+        assertEquals(1, failure.get().getSuppressed().length);
+    }
+}
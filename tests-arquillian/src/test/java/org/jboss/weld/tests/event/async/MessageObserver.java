@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.EventMetadata;
+
+@ApplicationScoped
+public class MessageObserver {
+
+    public void observeFirst(@Observes Message message, EventMetadata metadata) {
+        message.observed("first:" + metadata.getType());
+    }
+
+    public void observeSecond(@Observes Message message, RequestScopedCounter counter) {
+        // the request context is active in the thread that notifies the observer
+        counter.increment();
+        message.observed("second");
+    }
+
+    public void observeFailing1(@Observes @Failing Message message) {
+        throw new IllegalStateException("failing1");
+    }
+
+    public void observeFailing2(@Observes @Failing Message message) {
+        throw new IllegalStateException("failing2");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.batch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.event.EventImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link EventImpl#fireBatch(Iterable)}.
+ */
+@RunWith(Arquillian.class)
+public class BatchEventTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(BatchEventTest.class.getPackage())
+                .addAsServiceProvider(Extension.class, BatchItemObserverExtension.class);
+    }
+
+    @Inject
+    private Event<Item> event;
+
+    @Inject
+    private ItemObserver observer;
+
+    @Inject
+    private BatchItemObserverExtension extension;
+
+    @Test
+    public void testBatchDelivered() {
+        ((EventImpl<Item>) event).fireBatch(Arrays.asList(new Item(1), new Item(2), new Item(3)));
+        // the batch observer method is notified once with all the events
+        assertEquals(1, extension.getBatches().size());
+        assertEquals(Arrays.asList(1, 2, 3), extension.getBatches().get(0));
+        // other observer methods are notified of each event
+        assertEquals(Arrays.asList(1, 2, 3), observer.getItems());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.batch;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.Reception;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.event.BatchObserverMethod;
+
+public class BatchItemObserverExtension implements Extension, BatchObserverMethod<Item> {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<List<Integer>>();
+
+    void registerObserver(@Observes AfterBeanDiscovery event) {
+        event.addObserverMethod(this);
+    }
+
+    @Override
+    public void notifyBatch(List<? extends Item> events) {
+        List<Integer> batch = new ArrayList<Integer>();
+        for (Item item : events) {
+            batch.add(item.getId());
+        }
+        batches.add(batch);
+    }
+
+    @Override
+    public void notify(Item event) {
+        batches.add(Collections.singletonList(event.getId()));
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return BatchItemObserverExtension.class;
+    }
+
+    @Override
+    public Type getObservedType() {
+        return Item.class;
+    }
+
+    @Override
+    public Set<Annotation> getObservedQualifiers() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Reception getReception() {
+        return Reception.ALWAYS;
+    }
+
+    @Override
+    public TransactionPhase getTransactionPhase() {
+        return TransactionPhase.IN_PROGRESS;
+    }
+
+    public List<List<Integer>> getBatches() {
+        return batches;
+    }
+}
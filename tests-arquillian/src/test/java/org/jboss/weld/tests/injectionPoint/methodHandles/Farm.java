@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionPoint.methodHandles;
+
+import java.io.IOException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+
+@ApplicationScoped
+public class Farm {
+
+    @Inject
+    private Sheep sheep;
+
+    private Sheep initializerSheep;
+
+    private String shearedSheepName;
+
+    @Inject
+    private void init(Sheep sheep) {
+        this.initializerSheep = sheep;
+    }
+
+    @Produces
+    static Wool produceWool(Sheep sheep) {
+        return new Wool(sheep.getName());
+    }
+
+    @Produces
+    @Checked
+    Wool produceCheckedFailure() throws IOException {
+        throw new IOException();
+    }
+
+    @Produces
+    @Unchecked
+    Wool produceUncheckedFailure() {
+        throw new IllegalStateException();
+    }
+
+    void observeShearing(@Observes Shearing shearing, Sheep sheep) {
+        this.shearedSheepName = sheep.getName();
+    }
+
+    Sheep getSheep() {
+        return sheep;
+    }
+
+    Sheep getInitializerSheep() {
+        return initializerSheep;
+    }
+
+    String getShearedSheepName() {
+        return shearedSheepName;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionPoint.methodHandles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.CreationException;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests field injection and method invocation with {@link ConfigurationKey#INJECTION_METHOD_HANDLES} enabled.
+ */
+@RunWith(Arquillian.class)
+public class InjectionMethodHandlesTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InjectionMethodHandlesTest.class.getPackage())
+                .addAsResource(new StringAsset(ConfigurationKey.INJECTION_METHOD_HANDLES.get() + "=true"), "weld.properties");
+    }
+
+    @Inject
+    private BeanManagerImpl manager;
+
+    @Inject
+    private Farm farm;
+
+    @Inject
+    private Wool wool;
+
+    @Inject
+    private Event<Shearing> event;
+
+    @Inject
+    @Checked
+    private Instance<Wool> checkedFailure;
+
+    @Inject
+    @Unchecked
+    private Instance<Wool> uncheckedFailure;
+
+    @Test
+    public void testMethodHandlesEnabled() {
+        assertTrue(manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTION_METHOD_HANDLES));
+    }
+
+    @Test
+    public void testFieldInjection() {
+        assertNotNull(farm.getSheep());
+    }
+
+    @Test
+    public void testInitializerMethod() {
+        assertNotNull(farm.getInitializerSheep());
+    }
+
+    @Test
+    public void testStaticProducerMethod() {
+        assertEquals("Dolly", wool.getSheepName());
+    }
+
+    @Test
+    public void testObserverMethod() {
+        event.fire(new Shearing());
+        assertEquals("Dolly", farm.getShearedSheepName());
+    }
+
+    @Test
+    public void testCheckedExceptionWrapped() {
+        try {
+            checkedFailure.get().getSheepName();
+            fail();
+        } catch (CreationException expected) {
+            assertTrue(expected.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRuntimeExceptionNotWrapped() {
+        uncheckedFailure.get().getSheepName();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.context.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the context data of an around invoke interception, which is only allocated once an interceptor asks for it.
+ */
+@RunWith(Arquillian.class)
+public class InvocationContextDataTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InvocationContextDataTest.class.getPackage());
+    }
+
+    @Test
+    public void testContextDataSharedAcrossChain(Worker worker) {
+        for (int i = 0; i < 2; i++) {
+            assertEquals("public", worker.work());
+            // the value written by the first interceptor is read by the next one
+            assertEquals("work", ReadingInterceptor.getValue());
+            // every invocation has its own context data
+            assertNull(WritingInterceptor.getPreviousValue());
+        }
+        assertEquals("protected", worker.protectedWork());
+        assertEquals("protectedWork", ReadingInterceptor.getValue());
+        assertNull(WritingInterceptor.getPreviousValue());
+    }
+
+    @Test
+    public void testNonPublicTargetMethodInvoked(Worker worker) {
+        // the first invocation builds the interception chain, the second one uses the cached chain
+        for (int i = 0; i < 2; i++) {
+            assertEquals("protected", worker.protectedWork());
+            assertEquals("protectedWork", ReadingInterceptor.getValue());
+            assertEquals("package-private", worker.packagePrivateWork());
+            assertEquals("packagePrivateWork", ReadingInterceptor.getValue());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.context.data;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Priority(Interceptor.Priority.APPLICATION)
+@Interceptor
+@Traced
+public class WritingInterceptor {
+
+    static final String KEY = "trace";
+
+    private static volatile Object previousValue;
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        previousValue = ctx.getContextData().get(KEY);
+        ctx.getContextData().put(KEY, ctx.getMethod().getName());
+        return ctx.proceed();
+    }
+
+    static Object getPreviousValue() {
+        return previousValue;
+    }
+}
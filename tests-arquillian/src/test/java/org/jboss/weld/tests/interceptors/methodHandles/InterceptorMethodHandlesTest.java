@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.methodHandles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests an interception chain with {@link ConfigurationKey#INTERCEPTOR_METHOD_HANDLES} enabled.
+ */
+@RunWith(Arquillian.class)
+public class InterceptorMethodHandlesTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(RecordingInterceptor.class).addPackage(InterceptorMethodHandlesTest.class.getPackage())
+                .addAsResource(new StringAsset(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES.get() + "=true"), "weld.properties");
+    }
+
+    @Inject
+    private BeanManagerImpl manager;
+
+    @Inject
+    private Instance<Calculator> calculatorInstance;
+
+    @Test
+    public void testMethodHandlesEnabled() {
+        assertTrue(manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INTERCEPTOR_METHOD_HANDLES));
+    }
+
+    @Test
+    public void testInterceptionChain() {
+        ActionSequence.reset();
+        Calculator calculator = calculatorInstance.get();
+        assertEquals(Arrays.asList("interceptorPostConstruct", "targetPostConstruct"), ActionSequence.getActions());
+        ActionSequence.reset();
+        assertEquals(3, calculator.add(1, 2));
+        assertEquals(Arrays.asList("interceptor", "target"), ActionSequence.getActions());
+        // a second instance binds the handles to new interceptor instances
+        ActionSequence.reset();
+        assertEquals(5, calculatorInstance.get().add(2, 3));
+        assertEquals(Arrays.asList("interceptorPostConstruct", "targetPostConstruct", "interceptor", "target"), ActionSequence.getActions());
+    }
+
+    @Test
+    public void testExceptionPropagated() {
+        try {
+            calculatorInstance.get().fail();
+            fail();
+        } catch (IOException expected) {
+            assertEquals("fail", expected.getMessage());
+        }
+    }
+}
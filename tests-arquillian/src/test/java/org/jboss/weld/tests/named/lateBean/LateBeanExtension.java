@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.named.lateBean;
+
+import java.util.Set;
+
+import javax.annotation.Priority;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.Extension;
+
+public class LateBeanExtension implements Extension {
+
+    private Set<Bean<?>> beansBeforeRegistration;
+
+    private Set<Bean<?>> beansAfterValidation;
+
+    void lookup(@Observes @Priority(1) AfterBeanDiscovery event, BeanManager beanManager) {
+        beansBeforeRegistration = beanManager.getBeans("late");
+    }
+
+    void register(@Observes @Priority(2) AfterBeanDiscovery event) {
+        event.addBean().beanClass(Late.class).types(Late.class, Object.class).name("late").createWith(c -> new Late());
+    }
+
+    void validated(@Observes AfterDeploymentValidation event, BeanManager beanManager) {
+        beansAfterValidation = beanManager.getBeans("late");
+    }
+
+    Set<Bean<?>> getBeansBeforeRegistration() {
+        return beansBeforeRegistration;
+    }
+
+    Set<Bean<?>> getBeansAfterValidation() {
+        return beansAfterValidation;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.serialization.compact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.bean.proxy.util.SerializableClientProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.serialization.AbstractSerializableHolder;
+import org.jboss.weld.serialization.BeanHolder;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.serialization.spi.ContextualStore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ConfigurationKey#COMPACT_SERIALIZATION}.
+ */
+@RunWith(Arquillian.class)
+public class CompactSerializationTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackages(true, CompactSerializationTest.class.getPackage())
+                .addAsResource(new StringAsset(ConfigurationKey.COMPACT_SERIALIZATION.get() + "=true"), "weld.properties");
+    }
+
+    @Inject
+    Counter counter;
+
+    @Inject
+    BeanManager beanManager;
+
+    @Test
+    public void testClientProxy() throws Exception {
+        counter.increment();
+        byte[] bytes = serialize(counter);
+        // the bean identifier is replaced with its position in the index
+        assertFalse(contains(bytes, getBeanId().asString()));
+        Counter deserialized = (Counter) deserialize(bytes);
+        assertTrue(deserialized instanceof ProxyObject);
+        assertEquals(2, deserialized.increment());
+    }
+
+    @Test
+    public void testClientProxySerializedByOlderVersion() throws Exception {
+        counter.increment();
+        byte[] bytes = serialize(new org.jboss.weld.tests.serialization.compact.legacy.SerializableClientProxy(getBeanId(), getManager().getContextId()));
+        Counter deserialized = (Counter) deserialize(bytes, SerializableClientProxy.class);
+        assertEquals(counter.increment() + 1, deserialized.increment());
+    }
+
+    @Test
+    public void testBeanHolder() throws Exception {
+        Bean<?> bean = getBean();
+        byte[] bytes = serialize(BeanHolder.of(getManager().getContextId(), bean));
+        assertFalse(contains(bytes, getBeanId().asString()));
+        assertEquals(bean, ((BeanHolder<?>) deserialize(bytes)).get());
+    }
+
+    @Test
+    public void testBeanHolderSerializedByOlderVersion() throws Exception {
+        byte[] bytes = serialize(new org.jboss.weld.tests.serialization.compact.legacy.BeanHolder(getManager().getContextId(), getBeanId()));
+        assertEquals(getBean(), ((BeanHolder<?>) deserialize(bytes, BeanHolder.class, AbstractSerializableHolder.class)).get());
+    }
+
+    private BeanManagerImpl getManager() {
+        return BeanManagerProxy.unwrap(beanManager);
+    }
+
+    private Bean<?> getBean() {
+        return beanManager.resolve(beanManager.getBeans(Counter.class));
+    }
+
+    private BeanIdentifier getBeanId() {
+        return getManager().getServices().get(ContextualStore.class).putIfAbsent(getBean());
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes the given bytes. The classes from the legacy package are replaced with the given classes of the same simple name.
+     */
+    private static Object deserialize(byte[] bytes, Class<?>... replacements) throws IOException, ClassNotFoundException {
+        final Map<String, Class<?>> classes = new HashMap<String, Class<?>>();
+        for (Class<?> replacement : replacements) {
+            classes.put(org.jboss.weld.tests.serialization.compact.legacy.BeanHolder.class.getPackage().getName() + "." + replacement.getSimpleName(),
+                    replacement);
+        }
+        try (ObjectInputStream in = new LegacyObjectInputStream(new ByteArrayInputStream(bytes), classes)) {
+            return in.readObject();
+        }
+    }
+
+    private static boolean contains(byte[] bytes, String value) {
+        return new String(bytes, StandardCharsets.ISO_8859_1).contains(value);
+    }
+
+    private static class LegacyObjectInputStream extends ObjectInputStream {
+
+        private final Map<String, Class<?>> classes;
+
+        LegacyObjectInputStream(InputStream in, Map<String, Class<?>> classes) throws IOException {
+            super(in);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            Class<?> replacement = classes.get(desc.getName());
+            if (replacement != null) {
+                return replacement;
+            }
+            return Class.forName(desc.getName(), false, CompactSerializationTest.class.getClassLoader());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.serialization.compact.legacy;
+
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * Has the serialized form of {@link org.jboss.weld.serialization.BeanHolder} before compact serialization was introduced.
+ */
+public class BeanHolder extends AbstractSerializableHolder {
+
+    private static final long serialVersionUID = 6039992808930111222L;
+
+    private final String contextId;
+    private final BeanIdentifier beanId;
+
+    public BeanHolder(String contextId, BeanIdentifier beanId) {
+        this.contextId = contextId;
+        this.beanId = beanId;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.event.GlobalObserverNotifierService.ResolvedEvent;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the resolution of events fired through {@link javax.enterprise.event.Event} shared by all the {@link EventImpl} instances.
+ */
+public class GlobalObserverNotifierServiceTest {
+
+    private static final Type STRING_BOX = new TypeLiteral<Box<String>>() {
+    }.getType();
+
+    private static final Type INTEGER_BOX = new TypeLiteral<Box<Integer>>() {
+    }.getType();
+
+    private TestContainer container;
+
+    private GlobalObserverNotifierService service;
+
+    @BeforeMethod
+    public void startContainer() {
+        container = new TestContainer(Notification.class, SpecialNotification.class, Box.class, Urgent.class, NotificationObserver.class)
+                .startContainer();
+        BeanManagerImpl beanManager = (BeanManagerImpl) container.getBeanManager(container.getDeployment().getBeanDeploymentArchives()
+                .iterator().next());
+        service = beanManager.getServices().get(GlobalObserverNotifierService.class);
+    }
+
+    @AfterMethod
+    public void stopContainer() {
+        container.stopContainer();
+    }
+
+    @Test
+    public void testEqualKeysShareResolvedEvent() {
+        // every Event instance has its own set of qualifiers
+        ResolvedEvent<?> first = service.resolveEvent(Notification.class, Notification.class, qualifiers(Urgent.Literal.INSTANCE));
+        ResolvedEvent<?> second = service.resolveEvent(Notification.class, Notification.class, qualifiers(new Urgent.Literal()));
+        assertSame(second, first);
+        assertEquals(first.getEventType(), Notification.class);
+        assertEquals(first.getObservers().getAllObservers().size(), 2);
+    }
+
+    @Test
+    public void testDifferentQualifiersDoNotCollide() {
+        ResolvedEvent<?> plain = service.resolveEvent(Notification.class, Notification.class, qualifiers());
+        ResolvedEvent<?> urgent = service.resolveEvent(Notification.class, Notification.class, qualifiers(Urgent.Literal.INSTANCE));
+        assertNotSame(urgent, plain);
+        assertEquals(plain.getObservers().getAllObservers().size(), 1);
+        assertEquals(urgent.getObservers().getAllObservers().size(), 2);
+    }
+
+    @Test
+    public void testDifferentRuntimeTypesDoNotCollide() {
+        ResolvedEvent<?> notification = service.resolveEvent(Notification.class, Notification.class, qualifiers());
+        ResolvedEvent<?> special = service.resolveEvent(Notification.class, SpecialNotification.class, qualifiers());
+        assertNotSame(special, notification);
+        assertEquals(notification.getEventType(), Notification.class);
+        assertEquals(special.getEventType(), SpecialNotification.class);
+        assertEquals(notification.getObservers().getAllObservers().size(), 1);
+        assertEquals(special.getObservers().getAllObservers().size(), 2);
+    }
+
+    @Test
+    public void testGenericEventTypeIsInferredFromSpecifiedType() {
+        // the runtime type Box has an unresolved type variable, the type argument is taken from the specified type
+        ResolvedEvent<?> strings = service.resolveEvent(STRING_BOX, Box.class, qualifiers());
+        ResolvedEvent<?> integers = service.resolveEvent(INTEGER_BOX, Box.class, qualifiers());
+        assertNotSame(integers, strings);
+        assertEquals(strings.getEventType(), STRING_BOX);
+        assertEquals(integers.getEventType(), INTEGER_BOX);
+        assertEquals(strings.getObservers().getAllObservers().size(), 1);
+        assertEquals(strings.getObservers().getAllObservers().get(0).getObservedType(), STRING_BOX);
+        assertEquals(integers.getObservers().getAllObservers().size(), 1);
+        assertEquals(integers.getObservers().getAllObservers().get(0).getObservedType(), INTEGER_BOX);
+        assertSame(service.resolveEvent(new TypeLiteral<Box<String>>() {
+        }.getType(), Box.class, qualifiers()), strings);
+    }
+
+    @Test
+    public void testCleanupAfterBootDropsResolvedEvents() {
+        ResolvedEvent<?> beforeCleanup = service.resolveEvent(Notification.class, Notification.class, qualifiers());
+        service.cleanupAfterBoot();
+        ResolvedEvent<?> afterCleanup = service.resolveEvent(Notification.class, Notification.class, qualifiers());
+        assertNotSame(afterCleanup, beforeCleanup);
+        assertSame(service.resolveEvent(Notification.class, Notification.class, qualifiers()), afterCleanup);
+        assertEquals(afterCleanup.getObservers().getAllObservers().size(), 1);
+    }
+
+    private static Set<Annotation> qualifiers(Annotation... qualifiers) {
+        Set<Annotation> result = new HashSet<Annotation>();
+        Collections.addAll(result, qualifiers);
+        return result;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.conversation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.BusyConversationException;
+import javax.enterprise.context.NonexistentConversationException;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.context.AbstractConversationContext;
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequest;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.test.util.Utils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the conversations of a session, which are kept in a {@link ConcurrentMap}.
+ */
+public class ConcurrentConversationMapTest {
+
+    private TestContainer container;
+
+    private BeanManager beanManager;
+
+    private BoundConversationContext conversationContext;
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void startContainer() {
+        container = new TestContainer(Basket.class).startContainer();
+        beanManager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+        conversationContext = Utils.getReference(beanManager, BoundConversationContext.class);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void stopContainer() {
+        executor.shutdownNow();
+        container.stopContainer();
+    }
+
+    @Test
+    public void testSynchronizedMapOfPreviousVersionIsMigrated() {
+        Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        String cid = beginConversation(session);
+
+        // a session serialized by a previous version holds a synchronized map
+        Map<String, ManagedConversation> conversations = getConversations(session);
+        Map<String, ManagedConversation> legacyConversations = Collections.synchronizedMap(new HashMap<String, ManagedConversation>(conversations));
+        session.put(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME, legacyConversations);
+
+        BoundRequest request = associate(session);
+        try {
+            conversationContext.activate(cid);
+            assertEquals(conversationContext.getCurrentConversation().getId(), cid);
+            assertSame(conversationContext.getConversation(cid), legacyConversations.get(cid));
+        } finally {
+            deactivate(request);
+        }
+        Object migrated = session.get(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME);
+        assertTrue(migrated instanceof ConcurrentMap<?, ?>);
+        assertEquals(getConversations(session).keySet(), Collections.singleton(cid));
+    }
+
+    @Test
+    public void testLockTimesOutWhileConversationIsInUse() throws Exception {
+        final Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        final String cid = beginConversation(session);
+        conversationContext.setConcurrentAccessTimeout(50);
+
+        BoundRequest request = associate(session);
+        try {
+            conversationContext.activate(cid);
+            Future<Class<?>> concurrentRequest = executor.submit(new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    return restore(session, cid);
+                }
+            });
+            assertEquals(concurrentRequest.get(10, TimeUnit.SECONDS), BusyConversationException.class);
+        } finally {
+            deactivate(request);
+        }
+        // the conversation is still long-running and may be restored once the lock is released
+        assertNull(executor.submit(new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                return restore(session, cid);
+            }
+        }).get(10, TimeUnit.SECONDS));
+        assertEquals(getConversations(session).keySet(), Collections.singleton(cid));
+    }
+
+    @Test
+    public void testConversationEndedWhileWaitingForLockIsNotRestored() throws Exception {
+        final Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        final String cid = beginConversation(session);
+        conversationContext.setConcurrentAccessTimeout(TimeUnit.SECONDS.toMillis(10));
+
+        Future<Class<?>> concurrentRequest;
+        BoundRequest request = associate(session);
+        try {
+            conversationContext.activate(cid);
+            concurrentRequest = executor.submit(new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    return restore(session, cid);
+                }
+            });
+            // give the concurrent request time to wait for the lock
+            Thread.sleep(100);
+            assertFalse(concurrentRequest.isDone());
+            conversationContext.getCurrentConversation().end();
+        } finally {
+            deactivate(request);
+        }
+        // the waiting request acquires the lock of an ended conversation
+        assertEquals(concurrentRequest.get(10, TimeUnit.SECONDS), NonexistentConversationException.class);
+        assertTrue(getConversations(session).isEmpty());
+        assertEquals(Basket.DESTROYED.get(), 1);
+    }
+
+    /**
+     * Restores the given conversation in a new request.
+     *
+     * @return the class of the exception thrown by {@link BoundConversationContext#activate(String)} or null if the conversation was
+     *         restored
+     */
+    private Class<?> restore(Map<String, Object> session, String cid) {
+        BoundRequest request = associate(session);
+        try {
+            conversationContext.activate(cid);
+            assertEquals(conversationContext.getCurrentConversation().getId(), cid);
+            return null;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        } finally {
+            deactivate(request);
+        }
+    }
+
+    private String beginConversation(Map<String, Object> session) {
+        Basket.DESTROYED.set(0);
+        BoundRequest request = associate(session);
+        try {
+            conversationContext.activate();
+            conversationContext.getCurrentConversation().begin();
+            Utils.getReference(beanManager, Basket.class).add("apple");
+            return conversationContext.getCurrentConversation().getId();
+        } finally {
+            deactivate(request);
+        }
+    }
+
+    private BoundRequest associate(Map<String, Object> session) {
+        BoundRequest request = new MutableBoundRequest(new HashMap<String, Object>(), session);
+        conversationContext.associate(request);
+        return request;
+    }
+
+    private void deactivate(BoundRequest request) {
+        try {
+            if (conversationContext.isActive()) {
+                conversationContext.deactivate();
+            }
+        } finally {
+            conversationContext.dissociate(request);
+        }
+    }
+
+    private static Map<String, ManagedConversation> getConversations(Map<String, Object> session) {
+        @SuppressWarnings("unchecked")
+        Map<String, ManagedConversation> conversations = (Map<String, ManagedConversation>) session.get(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME);
+        if (conversations == null) {
+            fail("No conversations in the session");
+        }
+        return conversations;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.conversation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.enterprise.context.Conversation;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.AbstractConversationContext;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequest;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.test.util.Utils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link ConfigurationKey#CONVERSATION_REAPER_INTERVAL}.
+ */
+public class ConversationReaperTest {
+
+    private static final long INTERVAL = 10;
+
+    private TestContainer container;
+
+    private BeanManager beanManager;
+
+    private BoundConversationContext conversationContext;
+
+    @BeforeMethod
+    public void startContainer() {
+        System.setProperty(ConfigurationKey.CONVERSATION_REAPER_INTERVAL.get(), String.valueOf(INTERVAL));
+        try {
+            container = new TestContainer(Basket.class).startContainer();
+        } finally {
+            System.clearProperty(ConfigurationKey.CONVERSATION_REAPER_INTERVAL.get());
+        }
+        beanManager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+        conversationContext = Utils.getReference(beanManager, BoundConversationContext.class);
+        Basket.DESTROYED.set(0);
+    }
+
+    @AfterMethod
+    public void stopContainer() {
+        container.stopContainer();
+    }
+
+    @Test
+    public void testExpiredConversationIsDestroyed() throws Exception {
+        Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        beginConversation(session, 1);
+
+        waitUntil(() -> getReapedConversationCount() == 1);
+        assertEquals(Basket.DESTROYED.get(), 1);
+        Thread.sleep(10 * INTERVAL);
+        // the conversation is not tracked anymore
+        assertEquals(getReapedConversationCount(), 1);
+    }
+
+    @Test
+    public void testActiveConversationIsNotDestroyed() throws Exception {
+        beginConversation(new ConcurrentHashMap<String, Object>(), TimeUnit.MINUTES.toMillis(10));
+
+        Thread.sleep(10 * INTERVAL);
+        assertEquals(getReapedConversationCount(), 0);
+        assertEquals(Basket.DESTROYED.get(), 0);
+    }
+
+    @Test
+    public void testInvalidatedSessionIsNotTrackedAnymore() throws Exception {
+        final InvalidatableSession session = new InvalidatableSession();
+        beginConversation(session, 5 * INTERVAL);
+        session.invalidate();
+
+        waitUntil(() -> session.getInvalidatedAccesses() > 0);
+        Thread.sleep(10 * INTERVAL);
+        // the reaper neither retries nor destroys the conversation - this is done when the session is destroyed
+        assertEquals(session.getInvalidatedAccesses(), 1);
+        assertEquals(getReapedConversationCount(), 0);
+        assertEquals(Basket.DESTROYED.get(), 0);
+    }
+
+    @Test
+    public void testConversationIsDestroyedAfterSessionFacadeIsCollected() throws Exception {
+        Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        WeakReference<SessionFacade> facade = beginConversationWithFacade(session, 20 * INTERVAL);
+
+        // only the session itself is still referenced, the facade used by the request may be collected
+        waitUntil(() -> {
+            System.gc();
+            return facade.get() == null || getReapedConversationCount() == 1;
+        });
+        waitUntil(() -> getReapedConversationCount() == 1);
+        assertEquals(Basket.DESTROYED.get(), 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDestroyedSessionIsNotTrackedAnymore() throws Exception {
+        Map<String, Object> session = new ConcurrentHashMap<String, Object>();
+        beginConversation(session, 5 * INTERVAL);
+        ((AbstractConversationContext<?, Map<String, Object>>) conversationContext).destroy(session);
+        assertEquals(Basket.DESTROYED.get(), 1);
+
+        Thread.sleep(10 * INTERVAL);
+        assertEquals(getReapedConversationCount(), 0);
+        assertEquals(Basket.DESTROYED.get(), 1);
+    }
+
+    private WeakReference<SessionFacade> beginConversationWithFacade(Map<String, Object> session, long timeout) {
+        SessionFacade facade = new SessionFacade(session);
+        beginConversation(facade, timeout);
+        return new WeakReference<SessionFacade>(facade);
+    }
+
+    private void beginConversation(Map<String, Object> session, long timeout) {
+        BoundRequest request = new MutableBoundRequest(new HashMap<String, Object>(), session);
+        conversationContext.associate(request);
+        conversationContext.activate();
+        try {
+            Conversation conversation = conversationContext.getCurrentConversation();
+            conversation.begin();
+            conversation.setTimeout(timeout);
+            Utils.getReference(beanManager, Basket.class).add("apple");
+        } finally {
+            conversationContext.deactivate();
+            conversationContext.dissociate(request);
+        }
+    }
+
+    private long getReapedConversationCount() {
+        return ((AbstractConversationContext<?, ?>) conversationContext).getReapedConversationCount();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < timeout, "Timed out");
+            Thread.sleep(INTERVAL);
+        }
+    }
+}
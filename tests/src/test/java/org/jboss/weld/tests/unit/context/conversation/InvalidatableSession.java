@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.conversation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A session map which behaves like an invalidated HTTP session once {@link #invalidate()} is called.
+ */
+public class InvalidatableSession extends ConcurrentHashMap<String, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private volatile boolean invalidated;
+
+    private final AtomicInteger invalidatedAccesses = new AtomicInteger();
+
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    public int getInvalidatedAccesses() {
+        return invalidatedAccesses.get();
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (invalidated) {
+            invalidatedAccesses.incrementAndGet();
+            throw new IllegalStateException("Session already invalidated");
+        }
+        return super.get(key);
+    }
+}
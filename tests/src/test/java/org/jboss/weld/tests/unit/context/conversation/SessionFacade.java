@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.conversation;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A session map which only delegates to the actual session, like the session facades some servlet containers create for every request.
+ */
+public class SessionFacade extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> session;
+
+    public SessionFacade(Map<String, Object> session) {
+        this.session = session;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return session.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return session.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return session.remove(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return session.entrySet();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.deployment.structure.concurrent;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.SessionBeanType;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.MockEjBServices;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.bootstrap.ConcurrentValidator;
+import org.jboss.weld.bootstrap.Validator;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.ejb.spi.BusinessInterfaceDescriptor;
+import org.jboss.weld.ejb.spi.EjbDescriptor;
+import org.jboss.weld.ejb.spi.EjbServices;
+import org.jboss.weld.ejb.spi.InterceptorBindings;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.mock.AbstractDeployment;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that processing the bootstrap phases of all the bean deployment archives at once yields the same result as processing them
+ * one after another.
+ */
+public class ConcurrentBeanDeploymentsTest {
+
+    @Test
+    public void testConcurrentDeploymentMatchesSequentialDeployment() {
+        Map<String, Object> concurrent = deploy(true);
+        Map<String, Object> sequential = deploy(false);
+        assertEquals(concurrent, sequential);
+    }
+
+    private static Map<String, Object> deploy(boolean concurrentDeployment) {
+        final EjbDescriptor<Garage> garage = new EjbDescriptorImpl<Garage>(Garage.class, SessionBeanType.STATELESS);
+        final EjbDescriptor<Listener> listener = new EjbDescriptorImpl<Listener>(Listener.class, null);
+        final RecordingEjbServices ejbServices = new RecordingEjbServices();
+
+        final BeanDeploymentArchiveImpl library = new BeanDeploymentArchiveImpl("library", Engine.class, Vehicle.class, VehicleDecorator.class,
+                Audited.class, AuditInterceptor.class);
+        final BeanDeploymentArchiveImpl ejbJar = new BeanDeploymentArchiveImpl("ejb-jar", TurboEngine.class, Garage.class, Listener.class) {
+            @Override
+            public Collection<EjbDescriptor<?>> getEjbs() {
+                return ImmutableSet.<EjbDescriptor<?>> of(garage, listener);
+            }
+        };
+        final BeanDeploymentArchiveImpl war = new BeanDeploymentArchiveImpl("war", Car.class);
+        ejbJar.getBeanDeploymentArchives().add(library);
+        war.getBeanDeploymentArchives().add(library);
+        war.getBeanDeploymentArchives().add(ejbJar);
+
+        Deployment deployment = new AbstractDeployment(war, library, ejbJar) {
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return war;
+            }
+
+            @Override
+            protected void configureServices() {
+                super.configureServices();
+                getServices().add(EjbServices.class, ejbServices);
+            }
+        };
+
+        TestContainer container;
+        System.setProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), String.valueOf(concurrentDeployment));
+        try {
+            container = new TestContainer(deployment).startContainer().ensureRequestActive();
+        } finally {
+            System.clearProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT.get());
+        }
+        try {
+            BeanManagerImpl warManager = (BeanManagerImpl) container.getBeanManager(war);
+            assertEquals(warManager.getServices().get(Validator.class) instanceof ConcurrentValidator, concurrentDeployment);
+
+            Map<String, Object> result = new HashMap<String, Object>();
+            for (BeanDeploymentArchive archive : new BeanDeploymentArchive[] { war, library, ejbJar }) {
+                BeanManagerImpl manager = (BeanManagerImpl) container.getBeanManager(archive);
+                result.put(archive.getId() + " beans", getBeanClasses(manager.getBeans(Object.class, AnyLiteral.INSTANCE)));
+                result.put(archive.getId() + " decorators", getBeanClasses(manager.getDecorators()));
+                result.put(archive.getId() + " interceptors", getBeanClasses(manager.getInterceptors()));
+            }
+            // the specializing bean from another archive is used, the invocation is both intercepted and decorated
+            String drive = Utils.getReference(warManager, Vehicle.class).drive();
+            assertEquals(drive, "audited turbo!");
+            result.put("drive", drive);
+            // the interceptors of the session bean and of the message-driven bean are registered exactly once
+            assertEquals(ejbServices.registrations.get(garage.getEjbName()), Integer.valueOf(1));
+            assertEquals(ejbServices.registrations.get(listener.getEjbName()), Integer.valueOf(1));
+            result.put("registrations", ejbServices.registrations);
+            return result;
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static Set<String> getBeanClasses(Collection<? extends Bean<?>> beans) {
+        Set<String> classes = new TreeSet<String>();
+        for (Bean<?> bean : beans) {
+            classes.add(bean.getBeanClass().getName());
+        }
+        return classes;
+    }
+
+    private static class RecordingEjbServices extends MockEjBServices {
+
+        private final Map<String, Integer> registrations = Collections.synchronizedMap(new HashMap<String, Integer>());
+
+        @Override
+        public void registerInterceptors(EjbDescriptor<?> ejbDescriptor, InterceptorBindings interceptorBindings) {
+            registrations.merge(ejbDescriptor.getEjbName(), 1, Integer::sum);
+        }
+    }
+
+    private static class EjbDescriptorImpl<T> implements EjbDescriptor<T> {
+
+        private final Class<T> beanClass;
+        private final SessionBeanType type;
+
+        EjbDescriptorImpl(Class<T> beanClass, SessionBeanType type) {
+            this.beanClass = beanClass;
+            this.type = type;
+        }
+
+        @Override
+        public Class<T> getBeanClass() {
+            return beanClass;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Collection<BusinessInterfaceDescriptor<?>> getLocalBusinessInterfaces() {
+            if (isMessageDriven()) {
+                return Collections.emptyList();
+            }
+            return Collections.<BusinessInterfaceDescriptor<?>> singleton(new BusinessInterfaceDescriptor() {
+                @Override
+                public Class getInterface() {
+                    return beanClass;
+                }
+            });
+        }
+
+        @Override
+        public Collection<BusinessInterfaceDescriptor<?>> getRemoteBusinessInterfaces() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getEjbName() {
+            return beanClass.getSimpleName();
+        }
+
+        @Override
+        public Collection<Method> getRemoveMethods() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isStateless() {
+            return SessionBeanType.STATELESS.equals(type);
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return SessionBeanType.SINGLETON.equals(type);
+        }
+
+        @Override
+        public boolean isStateful() {
+            return SessionBeanType.STATEFUL.equals(type);
+        }
+
+        @Override
+        public boolean isMessageDriven() {
+            return type == null;
+        }
+
+        @Override
+        public boolean isPassivationCapable() {
+            return isStateful();
+        }
+    }
+}
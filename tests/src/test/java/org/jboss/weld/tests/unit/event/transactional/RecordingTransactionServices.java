@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event.transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.UserTransaction;
+
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+/**
+ * Simulates a single active transaction.
+ */
+public class RecordingTransactionServices implements TransactionServices {
+
+    private final List<Synchronization> synchronizations = new ArrayList<Synchronization>();
+
+    @Override
+    public void registerSynchronization(Synchronization synchronization) {
+        synchronizations.add(synchronization);
+    }
+
+    @Override
+    public boolean isTransactionActive() {
+        return true;
+    }
+
+    @Override
+    public UserTransaction getUserTransaction() {
+        return null;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    List<Synchronization> getSynchronizations() {
+        return synchronizations;
+    }
+
+    /**
+     * Completes the transaction. Synchronizations registered during before completion are processed as well.
+     */
+    void commit() {
+        for (int i = 0; i < synchronizations.size(); i++) {
+            synchronizations.get(i).beforeCompletion();
+        }
+        for (Synchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        }
+    }
+}
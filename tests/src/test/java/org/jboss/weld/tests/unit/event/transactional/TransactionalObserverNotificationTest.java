@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event.transactional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.event.TransactionSynchronizationRegistryServices;
+import org.jboss.weld.mock.AbstractDeployment;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that the deferred notifications of a transaction are processed by a single synchronization if the
+ * {@link TransactionSynchronizationRegistryServices} are available.
+ */
+public class TransactionalObserverNotificationTest {
+
+    private RecordingTransactionServices transactionServices;
+
+    private TestContainer container;
+
+    private BeanManager beanManager;
+
+    @AfterMethod
+    public void stopContainer() {
+        if (container != null) {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testNotificationsAreCoalesced() {
+        startContainer(new SimpleTransactionSynchronizationRegistry());
+        beanManager.fireEvent(new Payment("1"));
+        beanManager.fireEvent(new Payment("2"));
+        beanManager.fireEvent(new Payment("3"));
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+        assertTrue(getAuditor().getPayments().isEmpty());
+
+        transactionServices.commit();
+        assertEquals(getAuditor().getPayments(), Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    public void testSynchronizationIsRegisteredAgainOnceClosed() {
+        SimpleTransactionSynchronizationRegistry registry = new SimpleTransactionSynchronizationRegistry();
+        startContainer(registry);
+        beanManager.fireEvent(new Checkout());
+        beanManager.fireEvent(new Payment("1"));
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+
+        // the before completion observer fires an event once the first synchronization is closed
+        transactionServices.commit();
+        assertEquals(transactionServices.getSynchronizations().size(), 2);
+        // the closed synchronization is replaced
+        assertEquals(registry.getResources(), Collections.singletonList(transactionServices.getSynchronizations().get(1)));
+        assertEquals(getAuditor().getPayments(), Arrays.asList("1", "checkout"));
+    }
+
+    @Test
+    public void testSynchronizationPerEventWithoutRegistry() {
+        startContainer(null);
+        beanManager.fireEvent(new Payment("1"));
+        beanManager.fireEvent(new Payment("2"));
+        assertEquals(transactionServices.getSynchronizations().size(), 2);
+
+        transactionServices.commit();
+        assertEquals(getAuditor().getPayments(), Arrays.asList("1", "2"));
+    }
+
+    private void startContainer(final TransactionSynchronizationRegistryServices registryServices) {
+        final RecordingTransactionServices transactionServices = new RecordingTransactionServices();
+        this.transactionServices = transactionServices;
+        final BeanDeploymentArchive bda = new BeanDeploymentArchiveImpl("1", Auditor.class);
+        Deployment deployment = new AbstractDeployment(bda) {
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+
+            @Override
+            protected void configureServices() {
+                super.configureServices();
+                getServices().add(TransactionServices.class, transactionServices);
+                if (registryServices != null) {
+                    getServices().add(TransactionSynchronizationRegistryServices.class, registryServices);
+                }
+            }
+        };
+        container = new TestContainer(deployment).startContainer();
+        beanManager = container.getBeanManager(bda);
+    }
+
+    private Auditor getAuditor() {
+        return Utils.getReference(beanManager, Auditor.class);
+    }
+}